@@ -0,0 +1,4 @@
+\set post_id random(1, 100000)
+\set user_id random(1, 10000)
+insert into comments_plain (id, content, created_at, user_id, post_id)
+values (nextval('comment_id_seq'), 'pgbench comment', now(), :user_id, :post_id);
@@ -0,0 +1,8 @@
+-- Same shape as the post comment read in StreamReadRepository.findPostCommentsBefore with a fixed
+-- three-month lower bound, so only the last few monthly partitions are scanned.
+-- The app passes the post's creation time instead; every seeded post is as old as
+-- the seeded range, so that bound would not prune anything here.
+\set post_id random(1, 100000)
+select * from comments
+ where post_id = :post_id and created_at >= now() - interval '3 months'
+ order by created_at desc;
@@ -0,0 +1,4 @@
+\set post_id random(1, 100000)
+select * from comments_plain
+ where post_id = :post_id and created_at >= now() - interval '3 months'
+ order by created_at desc;
@@ -0,0 +1,13 @@
+#!/usr/bin/env sh
+# Usage: PGHOST=localhost PGPORT=5434 PGUSER=blog_user PGDATABASE=blog_db ./run.sh [--seed]
+set -e
+cd "$(dirname "$0")"
+
+if [ "$1" = "--seed" ]; then
+    psql -v ON_ERROR_STOP=1 -f seed.sql
+fi
+
+for script in insert_partitioned insert_plain read_partitioned read_plain; do
+    echo "== $script"
+    pgbench -n -c 16 -j 4 -T 60 -P 10 -r -f "$script.sql" | grep -E "latency|tps"
+done
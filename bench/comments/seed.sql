@@ -0,0 +1,49 @@
+-- Seeds 100M comments spread over 60 months into both the partitioned `comments`
+-- table and an unpartitioned copy (`comments_plain`) used as the baseline.
+-- Expects the application to have started once, so users/posts/comments exist and
+-- CommentPartitionManager has converted `comments`. Partitions for the seeded range
+-- are created up front so no row lands in comments_default.
+
+\set rows 100000000
+\set months 60
+
+insert into users (id, username, email, password, created_at)
+select g, 'bench_user_' || g, 'bench_user_' || g || '@example.com', 'x', now()
+  from generate_series(1, 10000) g
+on conflict do nothing;
+
+insert into categories (id, name, created_at) values (1, 'bench', now()) on conflict do nothing;
+
+insert into posts (id, title, slug, content, published, created_at, user_id, category_id)
+select g, 'bench post ' || g, 'bench-post-' || g, repeat('x', 60), true,
+       now() - make_interval(months => :months), 1 + g % 10000, 1
+  from generate_series(1, 100000) g
+on conflict do nothing;
+
+do $$
+declare m date;
+begin
+    for m in select generate_series(date_trunc('month', now() - interval '60 months'),
+                                    date_trunc('month', now()), interval '1 month')::date
+    loop
+        execute format('create table if not exists comments_p%s partition of comments for values from (%L) to (%L)',
+                       to_char(m, 'YYYYMM'), m, (m + interval '1 month')::date);
+    end loop;
+end $$;
+
+create table if not exists comments_plain (like comments including defaults);
+alter table comments_plain add primary key (id);
+create index if not exists idx_comments_plain_post_created on comments_plain (post_id, created_at);
+create index if not exists idx_comments_plain_user_created on comments_plain (user_id, created_at);
+
+insert into comments (id, content, created_at, user_id, post_id)
+select g, 'bench comment ' || g,
+       now() - (random() * interval '60 months'),
+       1 + g % 10000, 1 + g % 100000
+  from generate_series(1, :rows) g;
+
+insert into comments_plain select * from comments;
+
+select setval('comment_id_seq', :rows + 1000000);
+vacuum analyze comments;
+vacuum analyze comments_plain;
@@ -0,0 +1,44 @@
+#!/usr/bin/env sh
+# Measures time-to-first-request of the regular boot and of the fast-startup mode
+# (Spring AOT + fast-startup profile + AppCDS archive).
+# Needs the database from docker-compose.yml running and a JDK 21+.
+set -e
+cd "$(dirname "$0")/../.."
+
+JAR=practice-blog-api-0.0.1-SNAPSHOT.jar
+OUT=target/extracted
+URL=${URL:-http://localhost:8081/api/tags/autocomplete?prefix=a}
+FAST_OPTS="-Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup"
+
+mvn -B -q -Pfast-startup -DskipTests package
+rm -rf "$OUT"
+java -Djarmode=tools -jar "target/$JAR" extract --destination "$OUT"
+
+# training run: boots until the context is refreshed, then dumps every loaded class into the archive
+java -XX:ArchiveClassesAtExit="$OUT/application.jsa" $FAST_OPTS -Dspring.context.exit=onRefresh -jar "$OUT/$JAR"
+
+measure() {
+    name=$1
+    shift
+    start=$(date +%s%N)
+    java "$@" -jar "$OUT/$JAR" > "target/startup-$name.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        sleep 0.01
+    done
+    end=$(date +%s%N)
+    # in fast-startup mode the warm-ups finish after the first request, wait for all four timings
+    for _ in $(seq 300); do
+        [ "$(grep -c 'Warm-up .* finished' "target/startup-$name.log")" -ge 4 ] && break
+        sleep 0.1
+    done
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo "$name: $(( (end - start) / 1000000 )) ms to first request"
+    grep -o 'Warm-up .* finished in [0-9]* ms' "target/startup-$name.log" | sed 's/^/    /'
+}
+
+for i in 1 2 3; do
+    measure regular
+    measure aot $FAST_OPTS
+    measure aot-cds $FAST_OPTS -XX:SharedArchiveFile="$OUT/application.jsa" -Xshare:auto
+done
@@ -0,0 +1,26 @@
+// k6 run -e BASE_URL=http://localhost:8081 -e ENDPOINT=/api/stream/posts bench/streaming/load.js
+// Compare ENDPOINT=/api/stream/posts with the JPA backed endpoints, e.g. /api/feeds/atom.
+import http from 'k6/http';
+import {check} from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const ENDPOINT = __ENV.ENDPOINT || '/api/stream/posts';
+
+export const options = {
+    scenarios: {
+        fanout: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                {duration: '1m', target: 10000},
+                {duration: '3m', target: 10000},
+                {duration: '30s', target: 0},
+            ],
+        },
+    },
+};
+
+export default function () {
+    const res = http.get(`${BASE_URL}${ENDPOINT}`, {headers: {Accept: 'application/x-ndjson'}, timeout: '120s'});
+    check(res, {'status is 200': r => r.status === 200});
+}
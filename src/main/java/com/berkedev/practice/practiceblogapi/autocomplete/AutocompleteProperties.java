@@ -0,0 +1,13 @@
+package com.berkedev.practice.practiceblogapi.autocomplete;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxSuggestions how many completions every trie node keeps, also the upper bound of a request
+ */
+@ConfigurationProperties(prefix = "blog.autocomplete")
+public record AutocompleteProperties(
+        @DefaultValue("10") int maxSuggestions
+) {
+}
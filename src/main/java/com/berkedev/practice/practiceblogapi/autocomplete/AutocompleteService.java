@@ -0,0 +1,133 @@
+package com.berkedev.practice.practiceblogapi.autocomplete;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse;
+import com.berkedev.practice.practiceblogapi.data.repository.CategoryRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.TagRepository;
+import com.berkedev.practice.practiceblogapi.event.CategoryChangedEvent;
+import com.berkedev.practice.practiceblogapi.event.TagChangedEvent;
+import com.berkedev.practice.practiceblogapi.startup.WarmUp;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serves tag and category completions from memory instead of a
+ * {@code LIKE '%...%'} scan per keystroke.
+ * <p>
+ * Names are loaded at startup and follow creates and renames right after commit.
+ * Usage counts only affect ranking, so they are refreshed periodically with one
+ * grouped query instead of on every post edit.
+ * <p>
+ * Until the first load finished (it runs in the background under {@code fast-startup})
+ * completions come from a ranked prefix query, so they are never answered from an empty index.
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+    private final int maxSuggestions;
+    private final WarmUp warmUp;
+
+    private final NameIndex tags;
+    private final NameIndex categories;
+    // the warm-up and the scheduled refresh can overlap; NameIndex supports one reload at a time
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public AutocompleteService(TagRepository tagRepository,
+                               CategoryRepository categoryRepository,
+                               AutocompleteProperties properties,
+                               WarmUp warmUp) {
+        this.tagRepository = tagRepository;
+        this.warmUp = warmUp;
+        this.categoryRepository = categoryRepository;
+        this.maxSuggestions = properties.maxSuggestions();
+        this.tags = new NameIndex(maxSuggestions);
+        this.categories = new NameIndex(maxSuggestions);
+    }
+
+    public List<SuggestionResponse> suggestTags(String prefix, int limit) {
+        return suggest(tags, tagRepository::findWithUsageByNameLike, prefix, clamp(limit));
+    }
+
+    public List<SuggestionResponse> suggestCategories(String prefix, int limit) {
+        return suggest(categories, categoryRepository::findWithUsageByNameLike, prefix, clamp(limit));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmUp.run("autocomplete-index", this::reload);
+    }
+
+    @Scheduled(initialDelayString = "${blog.autocomplete.refresh-interval:PT5M}",
+            fixedDelayString = "${blog.autocomplete.refresh-interval:PT5M}")
+    public void reload() {
+        if (!reloadLock.tryLock()) {
+            log.info("Autocomplete index is already being reloaded, skipping");
+            return;
+        }
+        try {
+            reload(tags, tagRepository::findAllWithUsage);
+            reload(categories, categoryRepository::findAllWithUsage);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTagChanged(TagChangedEvent event) {
+        tags.put(event.tag().getId(), event.tag().getName());
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        categories.put(event.category().getId(), event.category().getName());
+    }
+
+    private void reload(NameIndex index, Supplier<List<SuggestionResponse>> rows) {
+        index.beginReload();
+        try {
+            index.replaceAll(rows.get());
+        } catch (RuntimeException e) {
+            log.warn("Could not reload the autocomplete index, keeping the previous one", e);
+        } finally {
+            index.endReload();
+        }
+    }
+
+    private static List<SuggestionResponse> suggest(NameIndex index,
+                                                    BiFunction<String, Pageable, List<SuggestionResponse>> fallback,
+                                                    String prefix, int limit) {
+        if (index.isLoaded())
+            return toResponseList(index.complete(prefix, limit));
+        if (limit == 0)
+            return List.of();
+        return fallback.apply(likePattern(prefix), PageRequest.of(0, limit));
+    }
+
+    // same normalization as the index, with LIKE wildcards in the prefix taken literally
+    static String likePattern(String prefix) {
+        return PrefixIndex.normalize(prefix).replaceAll("([\\\\%_])", "\\\\$1") + "%";
+    }
+
+    private int clamp(int limit) {
+        return Math.max(0, Math.min(limit, maxSuggestions));
+    }
+
+    private static List<SuggestionResponse> toResponseList(List<IndexedName> names) {
+        return names.stream()
+                .map(name -> new SuggestionResponse(name.id(), name.name(), name.usage()))
+                .toList();
+    }
+}
@@ -0,0 +1,18 @@
+package com.berkedev.practice.practiceblogapi.autocomplete;
+
+import java.util.Comparator;
+
+/**
+ * A tag or category name as stored in the {@link PrefixIndex}.
+ */
+record IndexedName(long id, String name, long usage) {
+
+    // most used first, alphabetical among equals so results are stable
+    static final Comparator<IndexedName> BY_RANK = Comparator.comparingLong(IndexedName::usage).reversed()
+            .thenComparing(IndexedName::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingLong(IndexedName::id);
+
+    IndexedName withName(String newName) {
+        return new IndexedName(id, newName, usage);
+    }
+}
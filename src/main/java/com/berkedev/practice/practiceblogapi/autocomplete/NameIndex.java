@@ -0,0 +1,81 @@
+package com.berkedev.practice.practiceblogapi.autocomplete;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Current set of names of one kind (tags or categories) and the trie built from it.
+ * Writers swap in a new trie; readers only see complete snapshots.
+ * <p>
+ * A reload reads its rows outside this lock, so a create committed after that read
+ * started would be wiped by {@link #replaceAll}. Puts arriving between
+ * {@link #beginReload} and the end of {@code replaceAll} are therefore remembered and
+ * applied again on top of the new rows. Reloads must not overlap, a second
+ * {@code beginReload} would drop the puts recorded for the first.
+ */
+class NameIndex {
+
+    private final int topK;
+    private final Map<Long, IndexedName> names = new HashMap<>();
+    private volatile PrefixIndex index = PrefixIndex.EMPTY;
+    private volatile boolean loaded;
+    private Map<Long, String> putDuringReload;
+
+    NameIndex(int topK) {
+        this.topK = topK;
+    }
+
+    List<IndexedName> complete(String prefix, int limit) {
+        return index.complete(prefix, limit);
+    }
+
+    // false until the first replaceAll, the index only holds names created since startup
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    synchronized void beginReload() {
+        putDuringReload = new LinkedHashMap<>();
+    }
+
+    synchronized void endReload() {
+        putDuringReload = null;
+    }
+
+    synchronized void replaceAll(List<SuggestionResponse> rows) {
+        names.clear();
+        for (SuggestionResponse row : rows) {
+            names.put(row.getId(), new IndexedName(row.getId(), row.getName(), row.getUsage()));
+        }
+        if (putDuringReload != null) {
+            putDuringReload.forEach(this::putName);
+            putDuringReload = null;
+        }
+        index = PrefixIndex.build(names.values(), topK);
+        loaded = true;
+    }
+
+    // creates keep usage 0 and are inserted into the current trie, renames rebuild it
+    synchronized void put(long id, String name) {
+        if (putDuringReload != null)
+            putDuringReload.put(id, name);
+
+        IndexedName previous = names.get(id);
+        IndexedName current = putName(id, name);
+        if (previous == null)
+            index = index.with(current, topK);
+        else if (!previous.name().equals(name))
+            index = PrefixIndex.build(names.values(), topK);
+    }
+
+    private IndexedName putName(long id, String name) {
+        IndexedName existing = names.get(id);
+        IndexedName updated = existing == null ? new IndexedName(id, name, 0) : existing.withName(name);
+        names.put(id, updated);
+        return updated;
+    }
+}
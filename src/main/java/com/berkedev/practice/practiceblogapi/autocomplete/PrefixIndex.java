@@ -0,0 +1,147 @@
+package com.berkedev.practice.practiceblogapi.autocomplete;
+
+import java.util.*;
+
+/**
+ * Immutable, case-insensitive prefix trie.
+ * <p>
+ * Every node stores the top-K names of its whole subtree, so a lookup is one
+ * walk down the prefix followed by a copy of at most K references, independent
+ * of how many names share the prefix. Names are inserted in rank order, which
+ * means the first K names passing through a node are exactly its top-K.
+ * Children are kept as sorted {@code char[]} plus a parallel node array and
+ * found by binary search, which keeps the structure compact.
+ * <p>
+ * {@link #with} adds a name by copying only the nodes on its path, so a create
+ * costs O(length * K) instead of a rebuild. Removing a name is not supported:
+ * a node whose top-K loses an entry cannot tell which name moves up without
+ * its whole subtree, so renames go through {@link #build}.
+ */
+final class PrefixIndex {
+
+    private static final Node LEAF = new Node(new char[0], new Node[0], new IndexedName[0]);
+
+    static final PrefixIndex EMPTY = new PrefixIndex(LEAF);
+
+    private final Node root;
+
+    private PrefixIndex(Node root) {
+        this.root = root;
+    }
+
+    static PrefixIndex build(Collection<IndexedName> names, int topK) {
+        List<IndexedName> ranked = new ArrayList<>(names);
+        ranked.sort(IndexedName.BY_RANK);
+
+        Builder root = new Builder();
+        for (IndexedName name : ranked) {
+            Builder node = root;
+            node.offer(name, topK);
+
+            String key = normalize(name.name());
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Builder());
+                node.offer(name, topK);
+            }
+        }
+        return new PrefixIndex(root.freeze());
+    }
+
+    /**
+     * Returns an index that also contains {@code name}; this index is left unchanged.
+     */
+    PrefixIndex with(IndexedName name, int topK) {
+        return new PrefixIndex(insert(root, normalize(name.name()), 0, name, topK));
+    }
+
+    private static Node insert(Node node, String key, int depth, IndexedName name, int topK) {
+        IndexedName[] top = offer(node.top, name, topK);
+        if (depth == key.length())
+            return new Node(node.labels, node.children, top);
+
+        char label = key.charAt(depth);
+        int index = Arrays.binarySearch(node.labels, label);
+        if (index >= 0) {
+            Node[] children = node.children.clone();
+            children[index] = insert(children[index], key, depth + 1, name, topK);
+            return new Node(node.labels, children, top);
+        }
+
+        int position = -index - 1;
+        char[] labels = new char[node.labels.length + 1];
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.labels, 0, labels, 0, position);
+        System.arraycopy(node.children, 0, children, 0, position);
+        System.arraycopy(node.labels, position, labels, position + 1, node.labels.length - position);
+        System.arraycopy(node.children, position, children, position + 1, node.children.length - position);
+        labels[position] = label;
+        children[position] = insert(LEAF, key, depth + 1, name, topK);
+        return new Node(labels, children, top);
+    }
+
+    // top-K of (top + name), still in rank order
+    private static IndexedName[] offer(IndexedName[] top, IndexedName name, int topK) {
+        int position = 0;
+        while (position < top.length && IndexedName.BY_RANK.compare(top[position], name) < 0) {
+            position++;
+        }
+        if (position >= topK)
+            return top;
+
+        IndexedName[] merged = new IndexedName[Math.min(topK, top.length + 1)];
+        System.arraycopy(top, 0, merged, 0, position);
+        merged[position] = name;
+        System.arraycopy(top, position, merged, position + 1, merged.length - position - 1);
+        return merged;
+    }
+
+    List<IndexedName> complete(String prefix, int limit) {
+        Node node = root;
+        String key = normalize(prefix);
+
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+
+        if (node == null)
+            return List.of();
+
+        return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record Node(char[] labels, Node[] children, IndexedName[] top) {
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class Builder {
+
+        private final TreeMap<Character, Builder> children = new TreeMap<>();
+        private final List<IndexedName> top = new ArrayList<>();
+
+        void offer(IndexedName name, int topK) {
+            if (top.size() < topK)
+                top.add(name);
+        }
+
+        Node freeze() {
+            char[] labels = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+
+            int i = 0;
+            for (Map.Entry<Character, Builder> child : children.entrySet()) {
+                labels[i] = child.getKey();
+                nodes[i] = child.getValue().freeze();
+                i++;
+            }
+            return new Node(labels, nodes, top.toArray(IndexedName[]::new));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.autocomplete.AutocompleteService;
+import com.berkedev.practice.practiceblogapi.data.dto.request.CategoryCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.response.CategoryResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse;
+import com.berkedev.practice.practiceblogapi.service.CategoryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+    private final AutocompleteService autocompleteService;
+
+    @GetMapping("/autocomplete")
+    public List<SuggestionResponse> autocomplete(@RequestParam(defaultValue = "") String prefix,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        return autocompleteService.suggestCategories(prefix, limit);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CategoryResponse create(@Valid @RequestBody CategoryCreateRequest createRequest) {
+        return categoryService.create(createRequest);
+    }
+}
@@ -0,0 +1,24 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.data.dto.request.CommentCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.response.CommentAcceptedResponse;
+import com.berkedev.practice.practiceblogapi.ingestion.CommentIngestionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentIngestionService commentIngestionService;
+
+    // 202: the comment has its id but is written with the next batch, a few ms later
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CommentAcceptedResponse create(@RequestParam Long authorId, @Valid @RequestBody CommentCreateRequest createRequest) {
+        return commentIngestionService.accept(authorId, createRequest).comment();
+    }
+}
@@ -0,0 +1,73 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.AllocationSummaryResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.RecordingResponse;
+import com.berkedev.practice.practiceblogapi.diagnostics.AllocationProfiler;
+import com.berkedev.practice.practiceblogapi.diagnostics.JfrProperties;
+import com.berkedev.practice.practiceblogapi.diagnostics.JfrSettings;
+import com.berkedev.practice.practiceblogapi.diagnostics.RecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Operator surface for JFR: control the recording, download it, read allocation summaries.
+ * Off unless both {@code blog.jfr.enabled} and {@code blog.jfr.endpoint-enabled} are set; it is
+ * not meant to face the internet.
+ */
+@RestController
+@RequestMapping("/api/diagnostics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "blog.jfr", name = {"enabled", "endpoint-enabled"}, havingValue = "true")
+public class DiagnosticsController {
+
+    private final RecordingService recordingService;
+    private final AllocationProfiler allocationProfiler;
+    private final JfrProperties properties;
+
+    @GetMapping("/jfr")
+    public RecordingResponse status() {
+        return recordingService.status();
+    }
+
+    @PostMapping("/jfr/start")
+    public RecordingResponse start(@RequestParam(defaultValue = "PROFILE") JfrSettings settings,
+                                   @RequestParam(defaultValue = "false") boolean mapperEvents,
+                                   @RequestParam(required = false) Duration maxAge) {
+        return recordingService.start(settings, mapperEvents, maxAge != null ? maxAge : properties.maxAge());
+    }
+
+    @PostMapping("/jfr/stop")
+    public RecordingResponse stop() {
+        return recordingService.stop();
+    }
+
+    @GetMapping("/jfr/dump")
+    public ResponseEntity<StreamingResponseBody> dump() {
+        // 404 before the body starts streaming
+        recordingService.status();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("practice-blog-api.jfr").build().toString())
+                .body(recordingService::dump);
+    }
+
+    @GetMapping("/allocations")
+    public List<AllocationSummaryResponse> allocations() {
+        return allocationProfiler.summaries();
+    }
+
+    @DeleteMapping("/allocations")
+    public void resetAllocations() {
+        allocationProfiler.reset();
+    }
+}
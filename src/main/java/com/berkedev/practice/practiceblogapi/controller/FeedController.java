@@ -0,0 +1,53 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.exception.ResourceNotFoundException;
+import com.berkedev.practice.practiceblogapi.feed.FeedFormat;
+import com.berkedev.practice.practiceblogapi.feed.FeedKey;
+import com.berkedev.practice.practiceblogapi.feed.FeedService;
+import com.berkedev.practice.practiceblogapi.feed.RenderedFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Feeds are returned with a strong ETag; Spring answers a matching
+ * If-None-Match with 304 before the body is written.
+ */
+@RestController
+@RequestMapping("/api/feeds")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @GetMapping("/{format}")
+    public ResponseEntity<byte[]> global(@PathVariable String format) {
+        return serve(FeedKey.GLOBAL, format);
+    }
+
+    @GetMapping("/categories/{categoryId}/{format}")
+    public ResponseEntity<byte[]> category(@PathVariable Long categoryId, @PathVariable String format) {
+        return serve(FeedKey.category(categoryId), format);
+    }
+
+    @GetMapping("/tags/{tagId}/{format}")
+    public ResponseEntity<byte[]> tag(@PathVariable Long tagId, @PathVariable String format) {
+        return serve(FeedKey.tag(tagId), format);
+    }
+
+    private ResponseEntity<byte[]> serve(FeedKey key, String format) {
+        FeedFormat feedFormat = FeedFormat.fromPath(format)
+                .orElseThrow(() -> new ResourceNotFoundException("Feed format", format));
+        RenderedFeed feed = feedService.get(key, feedFormat);
+
+        return ResponseEntity.ok()
+                .contentType(feedFormat.getMediaType())
+                .eTag(feed.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(feed.body());
+    }
+}
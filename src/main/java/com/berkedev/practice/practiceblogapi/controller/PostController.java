@@ -0,0 +1,50 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.data.dto.request.PostCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.request.PostTagsRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.request.PostUpdateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.response.AvailabilityResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostResponse;
+import com.berkedev.practice.practiceblogapi.querybudget.QueryBudget;
+import com.berkedev.practice.practiceblogapi.service.PostService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+public class PostController {
+
+    private final PostService postService;
+
+    // called live by the editor, free slugs are usually answered without a query
+    @GetMapping("/availability")
+    public AvailabilityResponse slugAvailability(@RequestParam String slug) {
+        return new AvailabilityResponse(slug, postService.isSlugAvailable(slug));
+    }
+
+    // post with author and category, then its tags
+    @QueryBudget(statements = 3)
+    @GetMapping("/{slug}")
+    public PostResponse getBySlug(@PathVariable String slug) {
+        return postService.getBySlug(slug);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public PostResponse create(@RequestParam Long authorId, @Valid @RequestBody PostCreateRequest createRequest) {
+        return postService.create(authorId, createRequest);
+    }
+
+    @PutMapping("/{id}")
+    public PostResponse update(@PathVariable Long id, @Valid @RequestBody PostUpdateRequest updateRequest) {
+        return postService.update(id, updateRequest);
+    }
+
+    @PostMapping("/{id}/tags")
+    public PostResponse attachTags(@PathVariable Long id, @Valid @RequestBody PostTagsRequest tagsRequest) {
+        return postService.attachTags(id, tagsRequest);
+    }
+}
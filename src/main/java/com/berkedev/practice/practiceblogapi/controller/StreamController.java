@@ -0,0 +1,46 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.stream.StreamFormat;
+import com.berkedev.practice.practiceblogapi.stream.StreamReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streaming read API for high fan-out clients. Answers NDJSON by default and
+ * server-sent events when the client accepts text/event-stream.
+ */
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+public class StreamController {
+
+    private final StreamReadService streamReadService;
+
+    @GetMapping("/posts")
+    public ResponseEntity<StreamingResponseBody> posts(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        StreamFormat format = StreamFormat.fromAccept(accept);
+        return stream(format, streamReadService.publishedPosts(format));
+    }
+
+    @GetMapping("/posts/{postId}/comments")
+    public ResponseEntity<StreamingResponseBody> comments(@PathVariable Long postId,
+                                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        StreamFormat format = StreamFormat.fromAccept(accept);
+        return stream(format, streamReadService.postComments(postId, format));
+    }
+
+    @GetMapping("/tags")
+    public ResponseEntity<StreamingResponseBody> tags(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        StreamFormat format = StreamFormat.fromAccept(accept);
+        return stream(format, streamReadService.tags(format));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(StreamFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+}
@@ -0,0 +1,40 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.autocomplete.AutocompleteService;
+import com.berkedev.practice.practiceblogapi.data.dto.request.TagCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.request.TagUpdateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.TagResponse;
+import com.berkedev.practice.practiceblogapi.service.TagService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagService tagService;
+    private final AutocompleteService autocompleteService;
+
+    @GetMapping("/autocomplete")
+    public List<SuggestionResponse> autocomplete(@RequestParam(defaultValue = "") String prefix,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        return autocompleteService.suggestTags(prefix, limit);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public TagResponse create(@Valid @RequestBody TagCreateRequest createRequest) {
+        return tagService.create(createRequest);
+    }
+
+    @PutMapping("/{id}")
+    public TagResponse rename(@PathVariable Long id, @Valid @RequestBody TagUpdateRequest updateRequest) {
+        return tagService.rename(id, updateRequest);
+    }
+}
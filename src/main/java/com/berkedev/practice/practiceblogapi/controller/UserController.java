@@ -0,0 +1,36 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.AuthorProfileResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.AvailabilityResponse;
+import com.berkedev.practice.practiceblogapi.profile.AuthorProfileService;
+import com.berkedev.practice.practiceblogapi.querybudget.QueryBudget;
+import com.berkedev.practice.practiceblogapi.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final AuthorProfileService authorProfileService;
+    private final UserService userService;
+
+    @GetMapping("/username-availability")
+    public AvailabilityResponse usernameAvailability(@RequestParam String username) {
+        return new AvailabilityResponse(username, userService.isUsernameAvailable(username));
+    }
+
+    @GetMapping("/email-availability")
+    public AvailabilityResponse emailAvailability(@RequestParam String email) {
+        return new AvailabilityResponse(email, userService.isEmailAvailable(email));
+    }
+
+    @QueryBudget(statements = 1)
+    @GetMapping("/{username}/profile")
+    public AuthorProfileResponse getProfile(@PathVariable String username,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "10") int size) {
+        return authorProfileService.getProfile(username, page, size);
+    }
+}
@@ -30,5 +30,10 @@ public class PostCreateRequest {
 
     @NotNull(message = "category is required")
     private Long categoryId;
+    @Builder.Default
     private List<Long> tagIds = new ArrayList<>();
+
+    // tags that do not exist yet are created
+    @Builder.Default
+    private List<@NotBlank @Size(min = 2, max = 15) String> tagNames = new ArrayList<>();
 }
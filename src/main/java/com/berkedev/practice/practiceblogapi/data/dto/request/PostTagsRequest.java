@@ -0,0 +1,19 @@
+package com.berkedev.practice.practiceblogapi.data.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTagsRequest {
+
+    @NotEmpty(message = "at least one tag name is required")
+    private List<@NotBlank @Size(min = 2, max = 15, message = "tag name must be between 2 - 15 characters") String> names;
+}
@@ -1,5 +1,6 @@
 package com.berkedev.practice.practiceblogapi.data.dto.request;
 
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
@@ -24,4 +25,7 @@ public class PostUpdateRequest {
 
     private Long categoryId;
     private List<Long> tagIds;
+
+    // tags that do not exist yet are created
+    private List<@NotBlank @Size(min = 2, max = 15) String> tagNames;
 }
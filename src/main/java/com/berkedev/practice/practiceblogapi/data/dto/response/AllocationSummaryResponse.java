@@ -0,0 +1,17 @@
+package com.berkedev.practice.practiceblogapi.data.dto.response;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocationSummaryResponse {
+
+    private String endpoint;
+    private long requests;
+    private long allocatedBytes;
+    private long bytesPerRequest;
+    private long bytesPerSecond;
+    private double averageMillis;
+}
@@ -0,0 +1,28 @@
+package com.berkedev.practice.practiceblogapi.data.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorProfileResponse {
+
+    private Long id;
+    private String username;
+    private String fullName;
+    private LocalDateTime createdAt;
+
+    private long publishedPostCount;
+    private long draftPostCount;
+    private long commentCount;
+
+    private int page;
+    private int size;
+    @Builder.Default
+    private List<PostSummaryResponse> posts = new ArrayList<>();
+}
@@ -0,0 +1,13 @@
+package com.berkedev.practice.practiceblogapi.data.dto.response;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+
+    private String value;
+    private boolean available;
+}
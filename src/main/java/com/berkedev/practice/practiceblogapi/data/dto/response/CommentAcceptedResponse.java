@@ -0,0 +1,22 @@
+package com.berkedev.practice.practiceblogapi.data.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Answer to a queued comment: what was accepted, not yet what was written. Post and author
+ * are ids only, a full {@link CommentResponse} would need a user lookup per comment.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class CommentAcceptedResponse {
+
+    private Long id;
+    private Long postId;
+    private Long authorId;
+    private String content;
+    private LocalDateTime createdAt;
+}
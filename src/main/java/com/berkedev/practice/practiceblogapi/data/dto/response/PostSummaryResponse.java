@@ -0,0 +1,17 @@
+package com.berkedev.practice.practiceblogapi.data.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryResponse {
+
+    private Long id;
+    private String title;
+    private String slug;
+    private LocalDateTime publishedAt;
+}
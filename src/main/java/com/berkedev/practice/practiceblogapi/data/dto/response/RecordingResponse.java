@@ -0,0 +1,21 @@
+package com.berkedev.practice.practiceblogapi.data.dto.response;
+
+import lombok.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingResponse {
+
+    private String name;
+    private String state;
+    private String settings;
+    private boolean mapperEvents;
+    private Instant startTime;
+    private Duration maxAge;
+    private Long maxSizeBytes;
+}
@@ -0,0 +1,14 @@
+package com.berkedev.practice.practiceblogapi.data.dto.response;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionResponse {
+
+    private Long id;
+    private String name;
+    private Long usage;
+}
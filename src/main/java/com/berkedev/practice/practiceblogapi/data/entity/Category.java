@@ -1,5 +1,6 @@
 package com.berkedev.practice.practiceblogapi.data.entity;
 
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKeyListener;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(UniqueKeyListener.class)
 @Table(name = "categories")
 @Getter
 @Setter
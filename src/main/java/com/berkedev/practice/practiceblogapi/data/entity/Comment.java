@@ -12,9 +12,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 public class Comment {
+    // shared with CommentIdAllocator, which hands out ids from the same sequence outside JPA
+    public static final String ID_SEQUENCE = "comment_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
-    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_id_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -1,13 +1,18 @@
 package com.berkedev.practice.practiceblogapi.data.entity;
 
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKeyListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
+@EntityListeners(UniqueKeyListener.class)
 @Table(name = "posts")
 @Getter
 @Setter
@@ -48,13 +53,27 @@ public class Post {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Comment> comments = new ArrayList<>();
 
+    // Set instead of List: Hibernate treats a List without @OrderColumn as a bag
+    // and rewrites every post_tags row on any change, a Set gets per-row inserts/deletes
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "post_tags",
             joinColumns = @JoinColumn(name = "post_id"),
             inverseJoinColumns = @JoinColumn(name = "tag_id")
     )
-    private List<Tag> tags = new ArrayList<>();
+    @OrderBy("name")
+    @Builder.Default
+    private Set<Tag> tags = new LinkedHashSet<>();
+
+    /**
+     * Makes the tags of this post exactly {@code newTags}, mutating the managed
+     * collection in place so only the difference is written to post_tags.
+     * Replacing the collection with setTags would delete and re-insert every row.
+     */
+    public void replaceTags(Collection<Tag> newTags) {
+        tags.retainAll(newTags);
+        tags.addAll(newTags);
+    }
 
     @PrePersist
     void onCreate() {
@@ -1,5 +1,6 @@
 package com.berkedev.practice.practiceblogapi.data.entity;
 
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKeyListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(UniqueKeyListener.class)
 @Table(name = "tags")
 @Getter
 @Setter
@@ -1,12 +1,14 @@
 package com.berkedev.practice.practiceblogapi.data.mapper;
 
 import com.berkedev.practice.practiceblogapi.data.dto.request.TagCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.request.TagUpdateRequest;
 import com.berkedev.practice.practiceblogapi.data.dto.response.TagResponse;
 import com.berkedev.practice.practiceblogapi.data.entity.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Component
@@ -22,8 +24,8 @@ public class TagMapper {
                 .build();
     }
 
-    public List<TagResponse> toResponseList(List<Tag> tags) {
-        List<TagResponse> tagResponsesList = new ArrayList<>();
+    public List<TagResponse> toResponseList(Collection<Tag> tags) {
+        List<TagResponse> tagResponsesList = new ArrayList<>(tags.size());
 
         for (Tag tag : tags) {
             tagResponsesList.add(toResponse(tag));
@@ -38,4 +40,12 @@ public class TagMapper {
 
         return new Tag(createRequest.getName());
     }
+
+    public void updateEntityFromRequest(TagUpdateRequest updateRequest, Tag tag) {
+        if (updateRequest == null || tag == null)
+            return;
+
+        if (updateRequest.getName() != null)
+            tag.setName(updateRequest.getName());
+    }
 }
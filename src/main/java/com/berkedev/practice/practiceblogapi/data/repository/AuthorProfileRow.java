@@ -0,0 +1,33 @@
+package com.berkedev.practice.practiceblogapi.data.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of {@link UserRepository#findAuthorProfileRows}: the author and their stats,
+ * repeated on every row, plus one published post of the requested page.
+ * Post columns are null when the page is empty.
+ */
+public interface AuthorProfileRow {
+
+    Long getAuthorId();
+
+    String getUsername();
+
+    String getFullName();
+
+    LocalDateTime getCreatedAt();
+
+    Long getPublishedPostCount();
+
+    Long getDraftPostCount();
+
+    Long getCommentCount();
+
+    Long getPostId();
+
+    String getPostTitle();
+
+    String getPostSlug();
+
+    LocalDateTime getPostPublishedAt();
+}
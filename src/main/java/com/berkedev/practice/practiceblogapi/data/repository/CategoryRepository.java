@@ -1,15 +1,20 @@
 package com.berkedev.practice.practiceblogapi.data.repository;
 
 import com.berkedev.practice.practiceblogapi.data.dto.response.CategoryResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse;
 import com.berkedev.practice.practiceblogapi.data.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -28,4 +33,32 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
                  ) from Category c where c.name=:name
             """)
     List<CategoryResponse> findAllSomeList(@Param("name") String name);
-}
\ No newline at end of file
+
+    // Autocomplete index source: every category with the number of posts in it
+    @Query("""
+                select new com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse(
+                 c.id,
+                  c.name,
+                   count(p)
+                 ) from Category c left join c.posts p group by c.id, c.name
+            """)
+    List<SuggestionResponse> findAllWithUsage();
+
+    // Autocomplete fallback until the index is loaded: same ranking, but one query per lookup
+    @Query("""
+                select new com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse(
+                 c.id,
+                  c.name,
+                   count(p)
+                 ) from Category c left join c.posts p
+                 where lower(c.name) like :pattern escape '\\'
+                 group by c.id, c.name
+                 order by count(p) desc, lower(c.name), c.id
+            """)
+    List<SuggestionResponse> findWithUsageByNameLike(@Param("pattern") String pattern, Pageable pageable);
+
+    // Unique key filter build: streamed so the names never sit in one list
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT c.name FROM Category c")
+    Stream<String> streamAllNames();
+}
@@ -1,17 +1,24 @@
 package com.berkedev.practice.practiceblogapi.data.repository;
 
 import com.berkedev.practice.practiceblogapi.data.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    @EntityGraph(attributePaths = {"author", "category"})
     Optional<Post> findBySlug(String slug);
     boolean existsBySlug(String slug);
 
@@ -39,4 +46,23 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // Ek: Published post'ları tarih sırasına göre getir
     @Query("SELECT p FROM Post p WHERE p.published = :published ORDER BY p.publishedAt DESC")
     List<Post> findPublishedPostsOrderedByDate(@Param("published") boolean published);
+
+    // Feed seeding: only ids are paged, associations are fetched in a second query
+    // so Hibernate never has to paginate a collection fetch in memory
+    @Query("SELECT p.id FROM Post p WHERE p.published = true ORDER BY p.publishedAt DESC NULLS LAST")
+    List<Long> findLatestPublishedIds(Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p WHERE p.published = true AND p.category.id = :categoryId ORDER BY p.publishedAt DESC NULLS LAST")
+    List<Long> findLatestPublishedIdsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p JOIN p.tags t WHERE p.published = true AND t.id = :tagId ORDER BY p.publishedAt DESC NULLS LAST")
+    List<Long> findLatestPublishedIdsByTagId(@Param("tagId") Long tagId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"author", "category", "tags"})
+    List<Post> findWithAssociationsByIdIn(Collection<Long> ids);
+
+    // Unique key filter build: streamed so the slugs never sit in one list
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT p.slug FROM Post p")
+    Stream<String> streamAllSlugs();
 }
@@ -1,11 +1,21 @@
 package com.berkedev.practice.practiceblogapi.data.repository;
 
+import com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse;
 import com.berkedev.practice.practiceblogapi.data.entity.Tag;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
@@ -15,4 +25,54 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     boolean existsByName(String name);
 
     List<Tag> findByNameContainingIgnoreCase(String name);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    /**
+     * Inserts every name that is not a tag yet in a single statement and returns only the new rows.
+     * The NOT EXISTS filter keeps existing names from consuming sequence values, ON CONFLICT covers
+     * a concurrent insert of the same name. Every nextval here owns a whole Hibernate pooled block,
+     * so ids never collide with tags persisted through JPA.
+     * <p>
+     * This is a write declared as a query, so it must join the caller's write transaction;
+     * MANDATORY fails fast instead of letting it run in the repository's read-only default.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+                insert into tags (id, name, created_at)
+                select nextval('tag_id_seq'), n.name, now()
+                  from unnest(cast(:names as text[])) as n(name)
+                 where not exists (select 1 from tags t where t.name = n.name)
+                on conflict (name) do nothing
+                returning *
+            """, nativeQuery = true)
+    List<Tag> insertMissing(@Param("names") String[] names);
+
+    // Autocomplete index source: every tag with the number of posts using it
+    @Query("""
+                select new com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse(
+                 t.id,
+                  t.name,
+                   count(p)
+                 ) from Tag t left join t.posts p group by t.id, t.name
+            """)
+    List<SuggestionResponse> findAllWithUsage();
+
+    // Autocomplete fallback until the index is loaded: same ranking, but one query per lookup
+    @Query("""
+                select new com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse(
+                 t.id,
+                  t.name,
+                   count(p)
+                 ) from Tag t left join t.posts p
+                 where lower(t.name) like :pattern escape '\\'
+                 group by t.id, t.name
+                 order by count(p) desc, lower(t.name), t.id
+            """)
+    List<SuggestionResponse> findWithUsageByNameLike(@Param("pattern") String pattern, Pageable pageable);
+
+    // Unique key filter build: streamed so the names never sit in one list
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT t.name FROM Tag t")
+    Stream<String> streamAllNames();
 }
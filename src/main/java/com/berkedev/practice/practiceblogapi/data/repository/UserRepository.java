@@ -1,10 +1,16 @@
 package com.berkedev.practice.practiceblogapi.data.repository;
 
 import com.berkedev.practice.practiceblogapi.data.entity.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -28,4 +34,50 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
+
+    /**
+     * Everything an author page needs in one round trip instead of a user lookup,
+     * a post list and three counts. Stats come from filtered aggregates, the requested
+     * page of published posts from a lateral join, so only that page is read.
+     * <p>
+     * No comment is older than its author, so {@code created_at >= u.created_at} lets
+     * PostgreSQL skip the monthly comment partitions from before the user signed up.
+     * Comments in partitions moved to {@code comments_archive} are not counted.
+     */
+    @Query(value = """
+                select u.id as "authorId", u.username as "username", u.full_name as "fullName",
+                       u.created_at as "createdAt",
+                       s.published as "publishedPostCount", s.drafts as "draftPostCount",
+                       (select count(*) from comments c
+                         where c.user_id = u.id and c.created_at >= u.created_at) as "commentCount",
+                       p.id as "postId", p.title as "postTitle", p.slug as "postSlug",
+                       p.published_at as "postPublishedAt"
+                  from users u
+                 cross join lateral (
+                       select count(*) filter (where published) as published,
+                              count(*) filter (where not published) as drafts
+                         from posts where user_id = u.id
+                       ) s
+                  left join lateral (
+                       select id, title, slug, published_at
+                         from posts
+                        where user_id = u.id and published
+                        order by published_at desc nulls last, id desc
+                        offset :offset limit :limit
+                       ) p on true
+                 where u.username = :username
+                 order by p.published_at desc nulls last, p.id desc
+            """, nativeQuery = true)
+    List<AuthorProfileRow> findAuthorProfileRows(@Param("username") String username,
+                                                 @Param("offset") long offset,
+                                                 @Param("limit") int limit);
+
+    // Unique key filter build: streamed so the values never sit in one list
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT u.username FROM User u")
+    Stream<String> streamAllUsernames();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,131 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.AllocationSummaryResponse;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint allocation summaries, fed by an in-process JFR stream.
+ * <p>
+ * {@code ThreadMXBean.getCurrentThreadAllocatedBytes()} reports -1 for virtual threads, which
+ * serve every request here, so the numbers come from JFR instead: {@code jdk.ObjectAllocationSample}
+ * weights are summed per thread and handed to the endpoint of the next {@link HttpRequestEvent}
+ * committed on that thread. The stream is ordered, so samples taken while a request ran arrive
+ * before its event. Each request runs on a fresh virtual thread, so nothing else leaks in; on a
+ * platform thread pool the few allocations between two requests land on the second one.
+ * <p>
+ * Figures are estimates from a throttled sampler, good for ranking endpoints and spotting
+ * regressions, not for exact byte counts.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "blog.jfr", name = "enabled", havingValue = "true")
+public class AllocationProfiler implements SmartLifecycle {
+
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    // threads that allocate but never serve a request (schedulers, the ingestion writer, ...)
+    private static final int MAX_PENDING_THREADS = 10_000;
+
+    private final String sampleThrottle;
+
+    // only touched by the stream's dispatch thread
+    private final Map<Long, Long> pendingBytesByThread = new HashMap<>();
+    private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+    private volatile long windowStartNanos = System.nanoTime();
+
+    private volatile RecordingStream stream;
+
+    public AllocationProfiler(JfrProperties properties) {
+        this.sampleThrottle = properties.allocationSampleThrottle();
+    }
+
+    public List<AllocationSummaryResponse> summaries() {
+        double windowSeconds = Math.max(1e-3, (System.nanoTime() - windowStartNanos) / 1e9);
+        List<AllocationSummaryResponse> summaries = new ArrayList<>(statsByEndpoint.size());
+        statsByEndpoint.forEach((endpoint, stats) -> {
+            long requests = stats.requests.sum();
+            long bytes = stats.bytes.sum();
+            summaries.add(AllocationSummaryResponse.builder()
+                    .endpoint(endpoint)
+                    .requests(requests)
+                    .allocatedBytes(bytes)
+                    .bytesPerRequest(requests == 0 ? 0 : bytes / requests)
+                    .bytesPerSecond((long) (bytes / windowSeconds))
+                    .averageMillis(requests == 0 ? 0 : stats.nanos.sum() / 1e6 / requests)
+                    .build());
+        });
+        summaries.sort(Comparator.comparingLong(AllocationSummaryResponse::getAllocatedBytes).reversed());
+        return summaries;
+    }
+
+    public void reset() {
+        statsByEndpoint.clear();
+        windowStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(ALLOCATION_SAMPLE).with("throttle", sampleThrottle).withoutStackTrace();
+        recordingStream.enable(HttpRequestEvent.class);
+        // the stream is consumed as it is written, keep only a little on disk
+        recordingStream.setMaxAge(Duration.ofSeconds(30));
+        recordingStream.onEvent(ALLOCATION_SAMPLE, this::onAllocationSample);
+        recordingStream.onEvent("blog.HttpRequest", this::onRequest);
+        recordingStream.onError(e -> log.warn("allocation profiler stream failed", e));
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info("allocation profiler started, sampling {}", sampleThrottle);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        stream = null;
+        if (recordingStream != null)
+            recordingStream.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onAllocationSample(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null)
+            return;
+        if (pendingBytesByThread.size() >= MAX_PENDING_THREADS)
+            pendingBytesByThread.clear();
+        pendingBytesByThread.merge(thread.getJavaThreadId(), event.getLong("weight"), Long::sum);
+    }
+
+    private void onRequest(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        Long bytes = thread == null ? null : pendingBytesByThread.remove(thread.getJavaThreadId());
+        statsByEndpoint.computeIfAbsent(event.getString("endpoint"), endpoint -> new EndpointStats())
+                .record(bytes == null ? 0 : bytes, event.getDuration().toNanos());
+    }
+
+    private static final class EndpointStats {
+        final LongAdder requests = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        void record(long allocatedBytes, long durationNanos) {
+            requests.increment();
+            bytes.add(allocatedBytes);
+            nanos.add(durationNanos);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import jdk.jfr.*;
+
+/**
+ * One handled request, committed on the thread that served it. {@link AllocationProfiler}
+ * uses it to attribute allocation samples of that thread to the endpoint.
+ */
+@Name("blog.HttpRequest")
+@Label("HTTP Request")
+@Category({"Blog", "Web"})
+@StackTrace(false)
+class HttpRequestEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("HTTP method and matched path pattern")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,55 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Wraps each request in an {@link HttpRequestEvent} committed on the thread that ran the handler.
+ * <p>
+ * Async requests ({@code StreamingResponseBody}, e.g. /api/stream and the recording dump) leave
+ * that thread when the handler returns; the body is written on an executor thread and the request
+ * is then dispatched again. Their event is committed when the handler returns and the async
+ * dispatch is not recorded, so the profiler counts the handler's allocations for the endpoint and
+ * never hands the body's (or an unrelated thread's) allocations to it.
+ */
+class HttpRequestEventInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = HttpRequestEventInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC)
+            return true;
+
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        commit(request, response);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        commit(request, response);
+    }
+
+    private static void commit(HttpServletRequest request, HttpServletResponse response) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof HttpRequestEvent event))
+            return;
+        request.removeAttribute(EVENT_ATTRIBUTE);
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        event.endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        event.status = response.getStatus();
+        event.commit();
+    }
+}
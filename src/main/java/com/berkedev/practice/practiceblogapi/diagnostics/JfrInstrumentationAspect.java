@@ -0,0 +1,49 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps repository and mapper calls in JFR events. When no recording has the event
+ * enabled, {@code isEnabled()} is false and the call goes straight through.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "blog.jfr", name = "enabled", havingValue = "true")
+class JfrInstrumentationAspect {
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    Object repositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled())
+            return joinPoint.proceed();
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            event.method = joinPoint.getSignature().getName();
+            event.commit();
+        }
+    }
+
+    @Around("within(com.berkedev.practice.practiceblogapi.data.mapper..*)")
+    Object mapperCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        MapperCallEvent event = new MapperCallEvent();
+        if (!event.isEnabled())
+            return joinPoint.proceed();
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.mapper = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            event.method = joinPoint.getSignature().getName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * @param enabled                  turn JFR diagnostics on: custom events, allocation profiler, recordings
+ * @param continuous               keep a low overhead recording running from startup
+ * @param settings                 JFR settings of the continuous recording (see {@link JfrSettings})
+ * @param maxAge                   how much history the continuous recording keeps, at most one day
+ * @param maxSize                  disk budget of the continuous recording
+ * @param allocationSampleThrottle rate of jdk.ObjectAllocationSample events behind the allocation summaries
+ * @param endpointEnabled          expose /api/diagnostics to start, stop and dump recordings (needs enabled)
+ */
+@ConfigurationProperties(prefix = "blog.jfr")
+public record JfrProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("true") boolean continuous,
+        @DefaultValue("default") JfrSettings settings,
+        @DefaultValue("1h") Duration maxAge,
+        @DefaultValue("250MB") DataSize maxSize,
+        @DefaultValue("150/s") String allocationSampleThrottle,
+        @DefaultValue("false") boolean endpointEnabled
+) {
+}
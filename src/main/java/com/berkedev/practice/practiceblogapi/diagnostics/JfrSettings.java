@@ -0,0 +1,18 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The two configurations shipped with the JDK: {@code default} stays around 1% overhead
+ * and is fine to leave running, {@code profile} samples more (allocations, locks, I/O
+ * with stack traces) and is meant for a bounded capture.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JfrSettings {
+    DEFAULT("default"),
+    PROFILE("profile");
+
+    private final String configurationName;
+}
@@ -0,0 +1,22 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import jdk.jfr.*;
+
+/**
+ * Off by default because mappers run once per mapped object; recordings started
+ * through {@link RecordingService} with mapper events requested switch it on.
+ */
+@Name("blog.MapperCall")
+@Label("Mapper Call")
+@Category({"Blog", "Mapping"})
+@Description("Invocation of an entity/DTO mapper method")
+@Enabled(false)
+@StackTrace(false)
+class MapperCallEvent extends Event {
+
+    @Label("Mapper")
+    String mapper;
+
+    @Label("Method")
+    String method;
+}
@@ -0,0 +1,136 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.RecordingResponse;
+import com.berkedev.practice.practiceblogapi.exception.InvalidRequestException;
+import com.berkedev.practice.practiceblogapi.exception.ResourceNotFoundException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Owns the application's JFR recording.
+ * <p>
+ * With {@code blog.jfr.continuous} a recording with the configured settings runs from startup,
+ * bounded by {@code max-age}/{@code max-size}, so the last stretch before an incident can be
+ * dumped after the fact. {@link #start} replaces it, e.g. with {@code profile} settings and
+ * mapper events for a short capture under load; {@link #stop} ends it until the next start.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "blog.jfr", name = "enabled", havingValue = "true")
+public class RecordingService implements DisposableBean {
+
+    private static final String RECORDING_NAME = "practice-blog-api";
+    // max-age is chosen by the caller of the endpoint; the size bound stays the operator's
+    static final Duration MAX_AGE_LIMIT = Duration.ofDays(1);
+
+    private final JfrProperties properties;
+
+    private Recording recording;
+    private JfrSettings settings;
+    private boolean mapperEvents;
+
+    public RecordingService(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuous() {
+        if (properties.continuous())
+            start(properties.settings(), false, properties.maxAge());
+    }
+
+    public synchronized RecordingResponse start(JfrSettings settings, boolean mapperEvents, Duration maxAge) {
+        // checked before the running recording is closed, a rejected start leaves it alone
+        if (maxAge.isZero() || maxAge.isNegative() || maxAge.compareTo(MAX_AGE_LIMIT) > 0)
+            throw new InvalidRequestException("maxAge must be positive and at most " + MAX_AGE_LIMIT + ": " + maxAge);
+
+        closeRecording();
+
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(settings.getConfigurationName()));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR configuration " + settings.getConfigurationName() + " unavailable", e);
+        }
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge);
+        newRecording.setMaxSize(properties.maxSize().toBytes());
+        if (mapperEvents)
+            newRecording.enable(MapperCallEvent.class);
+        newRecording.start();
+
+        this.recording = newRecording;
+        this.settings = settings;
+        this.mapperEvents = mapperEvents;
+        log.info("JFR recording started with {} settings, mapper events {}", settings.getConfigurationName(), mapperEvents);
+        return status();
+    }
+
+    public synchronized RecordingResponse stop() {
+        RecordingResponse status = status();
+        closeRecording();
+        return status;
+    }
+
+    public synchronized RecordingResponse status() {
+        if (recording == null)
+            throw new ResourceNotFoundException("recording", RECORDING_NAME);
+        return RecordingResponse.builder()
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .settings(settings.getConfigurationName())
+                .mapperEvents(mapperEvents)
+                .startTime(recording.getStartTime())
+                .maxAge(recording.getMaxAge())
+                .maxSizeBytes(recording.getMaxSize())
+                .build();
+    }
+
+    /**
+     * Writes everything the running recording still holds to {@code out} as a .jfr file.
+     * Recording continues; the dump goes through a temp file because JFR only dumps to paths.
+     */
+    public void dump(OutputStream out) throws IOException {
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        try {
+            synchronized (this) {
+                if (recording == null || recording.getState() != RecordingState.RUNNING)
+                    throw new ResourceNotFoundException("recording", RECORDING_NAME);
+                recording.dump(file);
+            }
+            Files.copy(file, out);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeRecording();
+    }
+
+    private void closeRecording() {
+        if (recording == null)
+            return;
+        recording.close();
+        recording = null;
+        settings = null;
+        mapperEvents = false;
+        log.info("JFR recording closed");
+    }
+}
@@ -0,0 +1,17 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import jdk.jfr.*;
+
+@Name("blog.RepositoryCall")
+@Label("Repository Call")
+@Category({"Blog", "Data"})
+@Description("Invocation of a Spring Data repository method, including query execution and entity hydration")
+@StackTrace(false)
+class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+}
@@ -0,0 +1,9 @@
+package com.berkedev.practice.practiceblogapi.event;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.CategoryResponse;
+
+/**
+ * Published by the service layer whenever a category is created.
+ */
+public record CategoryChangedEvent(CategoryResponse category) {
+}
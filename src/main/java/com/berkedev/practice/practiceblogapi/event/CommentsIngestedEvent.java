@@ -0,0 +1,14 @@
+package com.berkedev.practice.practiceblogapi.event;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Published once per committed comment batch, so counters and caches are updated
+ * once per batch instead of once per comment.
+ *
+ * @param commentsPerPost number of new comments for every post in the batch
+ * @param authorIds       every author with a new comment in the batch
+ */
+public record CommentsIngestedEvent(Map<Long, Integer> commentsPerPost, Set<Long> authorIds) {
+}
@@ -0,0 +1,11 @@
+package com.berkedev.practice.practiceblogapi.event;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostResponse;
+
+/**
+ * Published by the service layer whenever a post is created or edited.
+ * Carries an already-mapped snapshot so listeners running after commit
+ * never have to touch lazy associations or the database.
+ */
+public record PostChangedEvent(PostResponse post) {
+}
@@ -0,0 +1,9 @@
+package com.berkedev.practice.practiceblogapi.event;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.TagResponse;
+
+/**
+ * Published by the service layer whenever a tag is created or renamed.
+ */
+public record TagChangedEvent(TagResponse tag) {
+}
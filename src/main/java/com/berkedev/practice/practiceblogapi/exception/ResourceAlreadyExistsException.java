@@ -0,0 +1,12 @@
+package com.berkedev.practice.practiceblogapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ResourceAlreadyExistsException extends RuntimeException {
+
+    public ResourceAlreadyExistsException(String resource, Object key) {
+        super(resource + " already exists: " + key);
+    }
+}
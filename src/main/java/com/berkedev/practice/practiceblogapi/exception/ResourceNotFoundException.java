@@ -0,0 +1,12 @@
+package com.berkedev.practice.practiceblogapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String resource, Object key) {
+        super(resource + " not found: " + key);
+    }
+}
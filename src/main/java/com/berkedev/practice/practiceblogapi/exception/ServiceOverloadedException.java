@@ -0,0 +1,12 @@
+package com.berkedev.practice.practiceblogapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
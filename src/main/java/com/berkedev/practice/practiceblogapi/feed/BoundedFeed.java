@@ -0,0 +1,101 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The latest {@code capacity} entries of one feed, newest first, together with
+ * the rendered documents for every {@link FeedFormat}.
+ * <p>
+ * Entries are kept sorted so an edit of an older post lands in the right slot.
+ * When an entry leaves a full feed we cannot know which post should take its
+ * place without a query, so the feed is flagged stale and reloaded on next read.
+ */
+class BoundedFeed {
+
+    private final FeedRenderer renderer;
+    private final String title;
+    private final String path;
+    private final int capacity;
+
+    private final List<FeedEntry> entries;
+    // true while entries hold every matching post, i.e. fewer than capacity exist
+    private boolean complete;
+    private volatile boolean stale;
+    private volatile Map<FeedFormat, RenderedFeed> rendered;
+
+    BoundedFeed(FeedRenderer renderer, String title, String path, int capacity, List<FeedEntry> newestFirst) {
+        this.renderer = renderer;
+        this.title = title;
+        this.path = path;
+        this.capacity = capacity;
+        this.entries = new ArrayList<>(newestFirst.subList(0, Math.min(capacity, newestFirst.size())));
+        this.complete = newestFirst.size() < capacity;
+        render();
+    }
+
+    RenderedFeed get(FeedFormat format) {
+        return rendered.get(format);
+    }
+
+    boolean isStale() {
+        return stale;
+    }
+
+    void markStale() {
+        stale = true;
+    }
+
+    synchronized boolean contains(Predicate<FeedEntry> filter) {
+        return entries.stream().anyMatch(filter);
+    }
+
+    synchronized void upsert(FeedEntry entry) {
+        boolean removed = removeEntry(entry.postId());
+
+        int position = 0;
+        while (position < entries.size() && entries.get(position).isNewerThan(entry)) {
+            position++;
+        }
+
+        if (position >= capacity || (position == entries.size() && !complete)) {
+            // older than everything we keep; the feed only changed if the post was in it before
+            if (removed) {
+                stale = true;
+                render();
+            }
+            return;
+        }
+
+        entries.add(position, entry);
+        if (entries.size() > capacity) {
+            entries.remove(entries.size() - 1);
+            complete = false;
+        }
+        render();
+    }
+
+    synchronized void remove(long postId) {
+        if (!removeEntry(postId))
+            return;
+
+        if (!complete)
+            stale = true;
+        render();
+    }
+
+    private boolean removeEntry(long postId) {
+        return entries.removeIf(existing -> existing.postId() == postId);
+    }
+
+    private void render() {
+        Map<FeedFormat, RenderedFeed> documents = new EnumMap<>(FeedFormat.class);
+        for (FeedFormat format : FeedFormat.values()) {
+            documents.put(format, renderer.renderDocument(format, title, path, entries));
+        }
+        rendered = documents;
+    }
+}
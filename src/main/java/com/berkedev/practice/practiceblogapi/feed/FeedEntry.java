@@ -0,0 +1,27 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A single post, already rendered as an Atom {@code <entry>} and an RSS {@code <item>}.
+ * Rendering happens once per publish/edit, feed documents only concatenate fragments.
+ * The category and tag ids are kept to find the entries a rename makes outdated.
+ */
+public record FeedEntry(long postId, LocalDateTime publishedAt, Long categoryId, Set<Long> tagIds,
+                        Map<FeedFormat, String> fragments) {
+
+    static final Comparator<FeedEntry> NEWEST_FIRST = Comparator.comparing(FeedEntry::publishedAt)
+            .thenComparingLong(FeedEntry::postId)
+            .reversed();
+
+    public String fragment(FeedFormat format) {
+        return fragments.get(format);
+    }
+
+    boolean isNewerThan(FeedEntry other) {
+        return NEWEST_FIRST.compare(this, other) < 0;
+    }
+}
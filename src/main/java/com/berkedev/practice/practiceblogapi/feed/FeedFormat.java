@@ -0,0 +1,31 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+import org.springframework.http.MediaType;
+
+import java.util.Optional;
+
+public enum FeedFormat {
+
+    ATOM("atom", MediaType.parseMediaType("application/atom+xml;charset=UTF-8")),
+    RSS("rss", MediaType.parseMediaType("application/rss+xml;charset=UTF-8"));
+
+    private final String path;
+    private final MediaType mediaType;
+
+    FeedFormat(String path, MediaType mediaType) {
+        this.path = path;
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static Optional<FeedFormat> fromPath(String path) {
+        for (FeedFormat format : values()) {
+            if (format.path.equalsIgnoreCase(path))
+                return Optional.of(format);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,19 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+/**
+ * Identifies one feed: the global one, or the feed of a single category or tag.
+ */
+public record FeedKey(Scope scope, long id) {
+
+    public enum Scope {GLOBAL, CATEGORY, TAG}
+
+    public static final FeedKey GLOBAL = new FeedKey(Scope.GLOBAL, 0);
+
+    public static FeedKey category(long categoryId) {
+        return new FeedKey(Scope.CATEGORY, categoryId);
+    }
+
+    public static FeedKey tag(long tagId) {
+        return new FeedKey(Scope.TAG, tagId);
+    }
+}
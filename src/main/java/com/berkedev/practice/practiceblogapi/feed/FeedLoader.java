@@ -0,0 +1,60 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostResponse;
+import com.berkedev.practice.practiceblogapi.data.entity.Category;
+import com.berkedev.practice.practiceblogapi.data.entity.Tag;
+import com.berkedev.practice.practiceblogapi.data.mapper.PostMapper;
+import com.berkedev.practice.practiceblogapi.data.repository.CategoryRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.PostRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.TagRepository;
+import com.berkedev.practice.practiceblogapi.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Reads the initial content of a feed. Only used when a feed is first requested
+ * or has gone stale; in the steady state feeds are maintained from events.
+ */
+@Component
+@RequiredArgsConstructor
+class FeedLoader {
+
+    private final PostRepository postRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final PostMapper postMapper;
+
+    @Transactional(readOnly = true)
+    public String title(FeedKey key) {
+        return switch (key.scope()) {
+            case GLOBAL -> null;
+            case CATEGORY -> categoryRepository.findById(key.id())
+                    .map(Category::getName)
+                    .orElseThrow(() -> new ResourceNotFoundException("Category", key.id()));
+            case TAG -> tagRepository.findById(key.id())
+                    .map(Tag::getName)
+                    .orElseThrow(() -> new ResourceNotFoundException("Tag", key.id()));
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostResponse> latest(FeedKey key, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        List<Long> ids = switch (key.scope()) {
+            case GLOBAL -> postRepository.findLatestPublishedIds(page);
+            case CATEGORY -> postRepository.findLatestPublishedIdsByCategoryId(key.id(), page);
+            case TAG -> postRepository.findLatestPublishedIdsByTagId(key.id(), page);
+        };
+
+        if (ids.isEmpty())
+            return List.of();
+
+        return postRepository.findWithAssociationsByIdIn(ids).stream()
+                .map(postMapper::toResponse)
+                .toList();
+    }
+}
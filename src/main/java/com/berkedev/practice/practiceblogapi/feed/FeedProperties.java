@@ -0,0 +1,19 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param size    how many entries every feed keeps (the ring capacity)
+ * @param title   site title used as the feed title prefix
+ * @param baseUrl public URL that post links are built from
+ * @param zone    zone the stored LocalDateTime values are interpreted in
+ */
+@ConfigurationProperties(prefix = "blog.feed")
+public record FeedProperties(
+        @DefaultValue("20") int size,
+        @DefaultValue("Practice Blog") String title,
+        @DefaultValue("http://localhost:8081") String baseUrl,
+        @DefaultValue("Europe/Istanbul") String zone
+) {
+}
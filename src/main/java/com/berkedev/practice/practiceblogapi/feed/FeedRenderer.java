@@ -0,0 +1,176 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.TagResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class FeedRenderer {
+
+    private final FeedProperties properties;
+    private final ZoneId zone;
+
+    public FeedRenderer(FeedProperties properties) {
+        this.properties = properties;
+        this.zone = ZoneId.of(properties.zone());
+    }
+
+    public FeedEntry renderEntry(PostResponse post) {
+        // posts published before publishedAt was tracked fall back to their creation time
+        LocalDateTime date = post.getPublishedAt() != null ? post.getPublishedAt() : post.getCreatedAt();
+
+        Map<FeedFormat, String> fragments = new EnumMap<>(FeedFormat.class);
+        fragments.put(FeedFormat.ATOM, atomEntry(post, date));
+        fragments.put(FeedFormat.RSS, rssItem(post, date));
+
+        Long categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        Set<Long> tagIds = post.getTags().stream()
+                .map(TagResponse::getId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new FeedEntry(post.getId(), date, categoryId, tagIds, fragments);
+    }
+
+    public RenderedFeed renderDocument(FeedFormat format, String title, String path, List<FeedEntry> entries) {
+        String document = switch (format) {
+            case ATOM -> atomDocument(title, path, entries);
+            case RSS -> rssDocument(title, path, entries);
+        };
+
+        byte[] body = document.getBytes(StandardCharsets.UTF_8);
+        return new RenderedFeed(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    public String title(String suffix) {
+        return suffix == null ? properties.title() : properties.title() + " - " + suffix;
+    }
+
+    private String atomDocument(String title, String path, List<FeedEntry> entries) {
+        StringBuilder xml = new StringBuilder(256 + entries.size() * 1024);
+        LocalDateTime updated = entries.isEmpty() ? null : entries.get(0).publishedAt();
+
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<feed xmlns=\"http://www.w3.org/2005/Atom\">")
+                .append("<id>").append(escape(properties.baseUrl() + path)).append("</id>")
+                .append("<title>").append(escape(title)).append("</title>")
+                .append("<link rel=\"self\" href=\"").append(escape(properties.baseUrl() + path)).append("\"/>")
+                .append("<updated>").append(updated == null ? "" : atomDate(updated)).append("</updated>");
+
+        for (FeedEntry entry : entries) {
+            xml.append(entry.fragment(FeedFormat.ATOM));
+        }
+
+        return xml.append("</feed>").toString();
+    }
+
+    private String rssDocument(String title, String path, List<FeedEntry> entries) {
+        StringBuilder xml = new StringBuilder(256 + entries.size() * 1024);
+
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<rss version=\"2.0\"><channel>")
+                .append("<title>").append(escape(title)).append("</title>")
+                .append("<link>").append(escape(properties.baseUrl() + path)).append("</link>")
+                .append("<description>").append(escape(title)).append("</description>");
+
+        if (!entries.isEmpty())
+            xml.append("<lastBuildDate>").append(rssDate(entries.get(0).publishedAt())).append("</lastBuildDate>");
+
+        for (FeedEntry entry : entries) {
+            xml.append(entry.fragment(FeedFormat.RSS));
+        }
+
+        return xml.append("</channel></rss>").toString();
+    }
+
+    private String atomEntry(PostResponse post, LocalDateTime date) {
+        StringBuilder xml = new StringBuilder(512 + post.getContent().length());
+
+        xml.append("<entry>")
+                .append("<id>urn:post:").append(post.getId()).append("</id>")
+                .append("<title>").append(escape(post.getTitle())).append("</title>")
+                .append("<link href=\"").append(escape(postUrl(post))).append("\"/>")
+                .append("<published>").append(atomDate(date)).append("</published>")
+                .append("<updated>").append(atomDate(date)).append("</updated>");
+
+        if (post.getAuthor() != null)
+            xml.append("<author><name>").append(escape(post.getAuthor().getUsername())).append("</name></author>");
+
+        if (post.getCategory() != null)
+            xml.append("<category term=\"").append(escape(post.getCategory().getName())).append("\"/>");
+
+        for (TagResponse tag : post.getTags()) {
+            xml.append("<category term=\"").append(escape(tag.getName())).append("\"/>");
+        }
+
+        return xml.append("<content type=\"text\">").append(escape(post.getContent())).append("</content>")
+                .append("</entry>")
+                .toString();
+    }
+
+    private String rssItem(PostResponse post, LocalDateTime date) {
+        StringBuilder xml = new StringBuilder(512 + post.getContent().length());
+
+        xml.append("<item>")
+                .append("<guid isPermaLink=\"false\">urn:post:").append(post.getId()).append("</guid>")
+                .append("<title>").append(escape(post.getTitle())).append("</title>")
+                .append("<link>").append(escape(postUrl(post))).append("</link>")
+                .append("<pubDate>").append(rssDate(date)).append("</pubDate>");
+
+        if (post.getCategory() != null)
+            xml.append("<category>").append(escape(post.getCategory().getName())).append("</category>");
+
+        for (TagResponse tag : post.getTags()) {
+            xml.append("<category>").append(escape(tag.getName())).append("</category>");
+        }
+
+        return xml.append("<description>").append(escape(post.getContent())).append("</description>")
+                .append("</item>")
+                .toString();
+    }
+
+    private String postUrl(PostResponse post) {
+        return properties.baseUrl() + "/api/posts/" + post.getSlug();
+    }
+
+    private String atomDate(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    private String rssDate(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+    }
+
+    private static String escape(String text) {
+        if (text == null)
+            return "";
+
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&apos;");
+                default -> {
+                    // control characters other than tab/newline are not allowed in XML 1.0
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r')
+                        escaped.append(c);
+                }
+            }
+        }
+        return escaped.toString();
+    }
+}
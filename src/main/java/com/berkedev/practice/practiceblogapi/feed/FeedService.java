@@ -0,0 +1,138 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.TagResponse;
+import com.berkedev.practice.practiceblogapi.event.CategoryChangedEvent;
+import com.berkedev.practice.practiceblogapi.event.PostChangedEvent;
+import com.berkedev.practice.practiceblogapi.event.TagChangedEvent;
+import com.berkedev.practice.practiceblogapi.startup.WarmUp;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Keeps every requested feed in memory and updates it incrementally from
+ * {@link PostChangedEvent}s, so serving a feed does not touch the database.
+ * Category and tag feeds are loaded the first time they are requested.
+ * <p>
+ * Tag and category names are baked into the titles and rendered entries, so a
+ * rename drops the feeds that show the old name; they reload on next read.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    private final FeedLoader feedLoader;
+    private final FeedRenderer feedRenderer;
+    private final FeedProperties properties;
+    private final WarmUp warmUp;
+
+    private final Map<FeedKey, BoundedFeed> feeds = new ConcurrentHashMap<>();
+    // bumped on every post, tag or category change, lets a load that raced with a change detect it
+    private final AtomicLong changes = new AtomicLong();
+
+    public RenderedFeed get(FeedKey key, FeedFormat format) {
+        BoundedFeed feed = feeds.get(key);
+        if (feed == null || feed.isStale())
+            feed = load(key);
+
+        return feed.get(format);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmUp.run("global-feed", () -> {
+            try {
+                load(FeedKey.GLOBAL);
+            } catch (RuntimeException e) {
+                log.warn("Could not warm up the global feed, it will be loaded on first request", e);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        changes.incrementAndGet();
+        PostResponse post = event.post();
+
+        Set<FeedKey> targets = Boolean.TRUE.equals(post.getPublished()) ? keysOf(post) : Set.of();
+        FeedEntry entry = targets.isEmpty() ? null : feedRenderer.renderEntry(post);
+
+        feeds.forEach((key, feed) -> {
+            if (targets.contains(key))
+                feed.upsert(entry);
+            else
+                feed.remove(post.getId());
+        });
+    }
+
+    @TransactionalEventListener
+    public void onTagChanged(TagChangedEvent event) {
+        long tagId = event.tag().getId();
+        evict(FeedKey.tag(tagId), entry -> entry.tagIds().contains(tagId));
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        Long categoryId = event.category().getId();
+        evict(FeedKey.category(categoryId), entry -> categoryId.equals(entry.categoryId()));
+    }
+
+    // a freshly created tag or category matches nothing, only renames actually drop feeds
+    private void evict(FeedKey ownFeed, Predicate<FeedEntry> showsName) {
+        changes.incrementAndGet();
+
+        feeds.remove(ownFeed);
+        feeds.values().removeIf(feed -> feed.contains(showsName));
+    }
+
+    private BoundedFeed load(FeedKey key) {
+        long changesBefore = changes.get();
+
+        String title = feedRenderer.title(feedLoader.title(key));
+        List<FeedEntry> entries = feedLoader.latest(key, properties.size()).stream()
+                .map(feedRenderer::renderEntry)
+                .sorted(FeedEntry.NEWEST_FIRST)
+                .toList();
+
+        BoundedFeed feed = new BoundedFeed(feedRenderer, title, path(key), properties.size(), entries);
+        if (changes.get() != changesBefore)
+            feed.markStale();
+
+        feeds.put(key, feed);
+        return feed;
+    }
+
+    private static Set<FeedKey> keysOf(PostResponse post) {
+        Set<FeedKey> keys = new HashSet<>();
+        keys.add(FeedKey.GLOBAL);
+
+        if (post.getCategory() != null)
+            keys.add(FeedKey.category(post.getCategory().getId()));
+
+        for (TagResponse tag : post.getTags()) {
+            keys.add(FeedKey.tag(tag.getId()));
+        }
+        return keys;
+    }
+
+    private static String path(FeedKey key) {
+        return switch (key.scope()) {
+            case GLOBAL -> "/api/feeds";
+            case CATEGORY -> "/api/feeds/categories/" + key.id();
+            case TAG -> "/api/feeds/tags/" + key.id();
+        };
+    }
+}
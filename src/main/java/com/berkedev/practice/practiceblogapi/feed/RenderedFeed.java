@@ -0,0 +1,7 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+/**
+ * Serialized feed document together with the strong ETag derived from its bytes.
+ */
+public record RenderedFeed(byte[] body, String etag) {
+}
@@ -0,0 +1,97 @@
+package com.berkedev.practice.practiceblogapi.ingestion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes a batch of comments with one multi-row insert in one transaction.
+ * <p>
+ * The insert joins every row against posts and users, so a comment whose post or author was
+ * deleted after it was accepted is skipped by the statement instead of failing it with a
+ * foreign key violation; {@code returning id} tells which rows made it. Only an unexpected
+ * failure of the whole statement falls back to inserting the rows one by one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class CommentBatchWriter {
+
+    private static final String INSERT = "insert into comments (id, content, created_at, user_id, post_id) "
+            + "select v.id, v.content, v.created_at, v.user_id, v.post_id from (values ";
+    private static final String ROW = "(cast(? as bigint), cast(? as text), cast(? as timestamp), cast(? as bigint), cast(? as bigint))";
+    private static final String FROM = ") as v (id, content, created_at, user_id, post_id) "
+            + "join posts p on p.id = v.post_id join users u on u.id = v.user_id returning v.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @return the comments that were committed
+     */
+    List<PendingComment> write(List<PendingComment> batch) {
+        try {
+            return insertAndSkipOrphans(batch);
+        } catch (DataAccessException e) {
+            log.warn("Comment batch of {} rejected, retrying row by row", batch.size(), e);
+        }
+
+        List<PendingComment> written = new ArrayList<>(batch.size());
+        for (PendingComment comment : batch) {
+            try {
+                written.addAll(insertAndSkipOrphans(List.of(comment)));
+            } catch (DataAccessException e) {
+                log.warn("Dropping comment {} on post {}", comment.id(), comment.postId(), e);
+                comment.written().completeExceptionally(e);
+            }
+        }
+        return written;
+    }
+
+    private List<PendingComment> insertAndSkipOrphans(List<PendingComment> comments) {
+        Set<Long> inserted = new HashSet<>(transactionTemplate.execute(status -> insert(comments)));
+        if (inserted.size() == comments.size())
+            return comments;
+
+        List<PendingComment> written = new ArrayList<>(inserted.size());
+        for (PendingComment comment : comments) {
+            if (inserted.contains(comment.id())) {
+                written.add(comment);
+            } else {
+                log.warn("Dropping comment {}, post {} or author {} no longer exists", comment.id(), comment.postId(), comment.authorId());
+                comment.written().completeExceptionally(new IllegalStateException(
+                        "post " + comment.postId() + " or author " + comment.authorId() + " no longer exists"));
+            }
+        }
+        return written;
+    }
+
+    private List<Long> insert(List<PendingComment> comments) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + comments.size() * (ROW.length() + 1) + FROM.length()).append(INSERT);
+        Object[] args = new Object[comments.size() * 5];
+
+        int i = 0;
+        for (PendingComment comment : comments) {
+            if (i > 0)
+                sql.append(',');
+            sql.append(ROW);
+
+            args[i++] = comment.id();
+            args[i++] = comment.content();
+            args[i++] = Timestamp.valueOf(comment.createdAt());
+            args[i++] = comment.authorId();
+            args[i++] = comment.postId();
+        }
+        sql.append(FROM);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args);
+    }
+}
@@ -0,0 +1,19 @@
+package com.berkedev.practice.practiceblogapi.ingestion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param queueCapacity accepted but not yet written comments; beyond it new comments are rejected with 503
+ * @param maxBatchSize  most comments written by one multi-row insert
+ * @param flushInterval how long the first comment of a batch waits for others to join it
+ */
+@ConfigurationProperties(prefix = "blog.comments.ingestion")
+public record CommentIngestionProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int maxBatchSize,
+        @DefaultValue("5ms") Duration flushInterval
+) {
+}
@@ -0,0 +1,175 @@
+package com.berkedev.practice.practiceblogapi.ingestion;
+
+import com.berkedev.practice.practiceblogapi.data.dto.request.CommentCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.response.CommentAcceptedResponse;
+import com.berkedev.practice.practiceblogapi.event.CommentsIngestedEvent;
+import com.berkedev.practice.practiceblogapi.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts comments into a bounded queue and group-commits them.
+ * <p>
+ * A comment is acknowledged as soon as it is queued, with an id from {@link CommentIdAllocator};
+ * an unknown post or author is rejected with a 404 first, see {@link CommentTargets}.
+ * A single writer thread collects whatever arrives within {@code flushInterval} (up to
+ * {@code maxBatchSize}) and writes it with one insert, so a comment storm on one post costs one
+ * transaction per batch instead of one per comment. Listeners get one {@link CommentsIngestedEvent}
+ * per committed batch.
+ * <p>
+ * Acknowledged comments live only in memory until their batch commits; they are lost if the
+ * process dies in between. Callers that need durability can wait on {@link Accepted#written()}.
+ */
+@Slf4j
+@Service
+public class CommentIngestionService implements SmartLifecycle {
+
+    private final CommentIdAllocator idAllocator;
+    private final CommentTargets targets;
+    private final CommentBatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchSize;
+    private final long flushIntervalNanos;
+
+    private final BlockingQueue<PendingComment> queue;
+    private volatile boolean running;
+    private Thread writer;
+
+    public CommentIngestionService(CommentIdAllocator idAllocator,
+                                   CommentTargets targets,
+                                   CommentBatchWriter batchWriter,
+                                   ApplicationEventPublisher eventPublisher,
+                                   CommentIngestionProperties properties) {
+        this.idAllocator = idAllocator;
+        this.targets = targets;
+        this.batchWriter = batchWriter;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = properties.maxBatchSize();
+        this.flushIntervalNanos = properties.flushInterval().toNanos();
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    public Accepted accept(Long authorId, CommentCreateRequest createRequest) {
+        if (!running)
+            throw new ServiceOverloadedException("comment ingestion is not running");
+        targets.requireExisting(createRequest.getPostId(), authorId);
+
+        PendingComment comment = new PendingComment(idAllocator.nextId(), createRequest.getPostId(), authorId,
+                createRequest.getContent(), LocalDateTime.now(), new CompletableFuture<>());
+
+        if (!queue.offer(comment))
+            throw new ServiceOverloadedException("too many comments waiting to be written, retry later");
+
+        CommentAcceptedResponse response = CommentAcceptedResponse.builder()
+                .id(comment.id())
+                .postId(comment.postId())
+                .authorId(comment.authorId())
+                .content(comment.content())
+                .createdAt(comment.createdAt())
+                .build();
+        return new Accepted(response, comment.written());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("comment-ingestion").daemon().start(this::run);
+    }
+
+    // below the web server's phases: started before it accepts requests, stopped only after
+    // graceful shutdown has finished the in-flight ones, so nothing is accepted after the drain
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    // stops accepting, then lets the writer drain what was already acknowledged
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        List<PendingComment> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingComment> batch) throws InterruptedException {
+        PendingComment first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null)
+            return;
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0)
+                return;
+
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null)
+                return;
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingComment> batch) {
+        List<PendingComment> written;
+        try {
+            written = batchWriter.write(batch);
+        } catch (RuntimeException e) {
+            log.error("Could not write comment batch of {}", batch.size(), e);
+            batch.forEach(comment -> comment.written().completeExceptionally(e));
+            return;
+        }
+
+        Map<Long, Integer> commentsPerPost = new HashMap<>();
+        Set<Long> authorIds = new HashSet<>();
+        for (PendingComment comment : written) {
+            commentsPerPost.merge(comment.postId(), 1, Integer::sum);
+            authorIds.add(comment.authorId());
+        }
+
+        if (!written.isEmpty())
+            eventPublisher.publishEvent(new CommentsIngestedEvent(commentsPerPost, authorIds));
+        written.forEach(comment -> comment.written().complete(null));
+    }
+
+    public record Accepted(CommentAcceptedResponse comment, CompletableFuture<Void> written) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.berkedev.practice.practiceblogapi.ingestion;
+
+import com.berkedev.practice.practiceblogapi.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks that the post and author of a comment exist before it is acknowledged, so an
+ * unknown id is a 404 for the client instead of a row the writer has to drop later.
+ * <p>
+ * Ids found once are remembered, comment storms hit the same few posts. Missing ids are
+ * not, a post created a moment later must be accepted. A post deleted after its id was
+ * remembered is still caught by {@link CommentBatchWriter}, which only inserts rows whose
+ * post and author exist.
+ */
+@Component
+@RequiredArgsConstructor
+class CommentTargets {
+
+    // cleared when full, refilling costs one indexed lookup per active post or author
+    private static final int MAX_KNOWN_IDS = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<Long> knownPosts = ConcurrentHashMap.newKeySet();
+    private final Set<Long> knownAuthors = ConcurrentHashMap.newKeySet();
+
+    void requireExisting(long postId, long authorId) {
+        if (!exists(knownPosts, "posts", postId))
+            throw new ResourceNotFoundException("Post", postId);
+        if (!exists(knownAuthors, "users", authorId))
+            throw new ResourceNotFoundException("User", authorId);
+    }
+
+    private boolean exists(Set<Long> known, String table, long id) {
+        if (known.contains(id))
+            return true;
+
+        boolean exists = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from " + table + " where id = ?)", Boolean.class, id));
+        if (exists) {
+            if (known.size() >= MAX_KNOWN_IDS)
+                known.clear();
+            known.add(id);
+        }
+        return exists;
+    }
+}
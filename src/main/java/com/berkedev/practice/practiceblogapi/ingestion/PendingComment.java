@@ -0,0 +1,12 @@
+package com.berkedev.practice.practiceblogapi.ingestion;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An accepted comment waiting for the next batch. {@code written} completes once the
+ * batch holding it is committed, or exceptionally if the row could not be inserted.
+ */
+record PendingComment(long id, long postId, long authorId, String content, LocalDateTime createdAt,
+                      CompletableFuture<Void> written) {
+}
@@ -0,0 +1,217 @@
+package com.berkedev.practice.practiceblogapi.partition;
+
+import com.berkedev.practice.practiceblogapi.startup.WarmUp;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Keeps {@code comments} range-partitioned by month on {@code created_at}.
+ * <p>
+ * Hibernate ({@code ddl-auto: update}) creates {@code comments} as a plain table, so on startup it is
+ * converted once into a partitioned table with the same columns. The primary key becomes
+ * {@code (id, created_at)} because PostgreSQL requires the partition key in every unique constraint.
+ * <p>
+ * A daily job then creates the next {@code monthsAhead} partitions and moves partitions older than
+ * {@code archiveAfterMonths} to {@code comments_archive}, so indexes touched by new inserts only
+ * cover recent months.
+ * <p>
+ * Archived comments drop out of the API: every read (the comment stream, the author profile's
+ * comment count) queries {@code comments} only. An archived partition also loses its foreign keys
+ * to posts and users, so deleting a post or user leaves its archived comments behind instead of
+ * failing on them.
+ * <p>
+ * Every instance runs both steps, so each takes a transaction-scoped advisory lock first: the
+ * conversion waits for it and re-checks the table, the daily job skips the run when another
+ * instance holds it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPartitionManager implements SmartInitializingSingleton {
+
+    static final String TABLE = "comments";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    // arbitrary, only has to be unique among the advisory locks taken on this database
+    private static final long LOCK_KEY = 0x636F6D6D656E7473L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentPartitionProperties properties;
+    private final WarmUp warmUp;
+
+    // runs after Hibernate created the schema and, unless warm-ups run in the background,
+    // before the web server accepts requests. Background mode (fast-startup) expects a schema
+    // the regular deployment already converted, leaving only the partition check and maintenance.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.enabled())
+            return;
+
+        warmUp.run("comment-partitions", this::prepare);
+    }
+
+    private void prepare() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("select pg_advisory_xact_lock(" + LOCK_KEY + ")");
+                // checked again under the lock, another instance may have converted it meanwhile
+                convertToPartitioned();
+            });
+            maintain();
+        } catch (DataAccessException e) {
+            log.error("Could not prepare the partitioned comments table", e);
+        }
+    }
+
+    @Scheduled(cron = "${blog.comments.partitioning.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!properties.enabled())
+            return;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY))) {
+                log.info("Comment partition maintenance is running on another instance, skipping");
+                return;
+            }
+            if (!isPartitioned(TABLE))
+                return;
+
+            createArchiveTable();
+
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= properties.monthsAhead(); i++) {
+                createPartition(current.plusMonths(i));
+            }
+
+            archivePartitionsBefore(current.minusMonths(properties.archiveAfterMonths()));
+        });
+    }
+
+    private void convertToPartitioned() {
+        if (!tableExists(TABLE) || isPartitioned(TABLE))
+            return;
+
+        log.info("Converting {} into a monthly partitioned table", TABLE);
+
+        jdbcTemplate.execute("alter table comments rename to comments_unpartitioned");
+        jdbcTemplate.execute("""
+                create table comments (
+                    like comments_unpartitioned including defaults,
+                    primary key (id, created_at),
+                    foreign key (post_id) references posts (id),
+                    foreign key (user_id) references users (id)
+                ) partition by range (created_at)
+                """);
+        // indexes on the parent are created on every partition, these back every CommentRepository query
+        jdbcTemplate.execute("create index idx_comments_post_created on comments (post_id, created_at)");
+        jdbcTemplate.execute("create index idx_comments_user_created on comments (user_id, created_at)");
+        // catches rows outside every monthly range instead of failing the insert
+        jdbcTemplate.execute("create table comments_default partition of comments default");
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "select min(created_at) from comments_unpartitioned", LocalDateTime.class);
+        YearMonth month = oldest == null ? YearMonth.now() : YearMonth.from(oldest);
+        for (; !month.isAfter(YearMonth.now()); month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+
+        jdbcTemplate.execute("insert into comments select * from comments_unpartitioned");
+        jdbcTemplate.execute("drop table comments_unpartitioned");
+
+        createArchiveTable();
+    }
+
+    private void createArchiveTable() {
+        jdbcTemplate.execute("""
+                create table if not exists comments_archive (
+                    like comments including defaults,
+                    primary key (id, created_at)
+                ) partition by range (created_at)
+                """);
+        jdbcTemplate.execute("create index if not exists idx_comments_archive_post_created on comments_archive (post_id, created_at)");
+    }
+
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (tableExists(partition))
+            return;
+
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        // the create would fail and abort the surrounding transaction, so check first
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from comments_default where created_at >= ? and created_at < ?)",
+                Boolean.class, from, to))) {
+            log.error("Could not create comment partition {}, comments_default already holds rows of {}", partition, month);
+            return;
+        }
+
+        jdbcTemplate.execute("create table %s partition of comments for values from ('%s') to ('%s')"
+                .formatted(partition, from, to));
+        log.info("Created comment partition {}", partition);
+    }
+
+    private void archivePartitionsBefore(YearMonth firstKeptMonth) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                select c.relname from pg_inherits i
+                  join pg_class c on c.oid = i.inhrelid
+                  join pg_class p on p.oid = i.inhparent
+                 where p.relname = ? and c.relname like 'comments\\_p%'
+                 order by c.relname
+                """, String.class, TABLE);
+
+        for (String partition : partitions) {
+            YearMonth month = YearMonth.parse(partition.substring("comments_p".length()), SUFFIX);
+            if (month.isBefore(firstKeptMonth))
+                archive(partition, month);
+        }
+    }
+
+    private void archive(String partition, YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        jdbcTemplate.execute("alter table comments detach partition " + partition);
+        // detaching turns the inherited foreign keys into the partition's own; kept, they would make
+        // every later post or user delete fail on comments JPA can no longer see
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+                "select conname from pg_constraint where conrelid = ?::regclass and contype = 'f'", String.class, partition);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("alter table %s drop constraint \"%s\"".formatted(partition, foreignKey));
+        }
+        if (!properties.archiveTablespace().isBlank())
+            jdbcTemplate.execute("alter table %s set tablespace %s".formatted(partition, properties.archiveTablespace()));
+        jdbcTemplate.execute("alter table comments_archive attach partition %s for values from ('%s') to ('%s')"
+                .formatted(partition, from, to));
+
+        log.info("Archived comment partition {}", partition);
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select to_regclass(?) is not null", Boolean.class, table));
+    }
+
+    private boolean isPartitioned(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from pg_partitioned_table pt join pg_class c on c.oid = pt.partrelid where c.relname = ?)",
+                Boolean.class, table));
+    }
+
+    static String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,19 @@
+package com.berkedev.practice.practiceblogapi.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled            convert and maintain the partitioned comments table
+ * @param monthsAhead        how many future monthly partitions are kept ready
+ * @param archiveAfterMonths partitions older than this many months move to comments_archive and out of the API
+ * @param archiveTablespace  optional tablespace (e.g. on cheaper or compressed storage) for archived partitions
+ */
+@ConfigurationProperties(prefix = "blog.comments.partitioning")
+public record CommentPartitionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("3") int monthsAhead,
+        @DefaultValue("24") int archiveAfterMonths,
+        @DefaultValue("") String archiveTablespace
+) {
+}
@@ -0,0 +1,17 @@
+package com.berkedev.practice.practiceblogapi.profile;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param cacheSize   how many authors keep cached profile pages, least recently used are dropped
+ * @param maxPageSize upper bound of the post page requested with a profile
+ * @param cachedPages how many leading pages of an author are cached, deeper pages always hit the database
+ */
+@ConfigurationProperties(prefix = "blog.author-profile")
+public record AuthorProfileProperties(
+        @DefaultValue("1000") int cacheSize,
+        @DefaultValue("50") int maxPageSize,
+        @DefaultValue("3") int cachedPages
+) {
+}
@@ -0,0 +1,150 @@
+package com.berkedev.practice.practiceblogapi.profile;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.AuthorProfileResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostSummaryResponse;
+import com.berkedev.practice.practiceblogapi.data.repository.AuthorProfileRow;
+import com.berkedev.practice.practiceblogapi.data.repository.UserRepository;
+import com.berkedev.practice.practiceblogapi.event.CommentsIngestedEvent;
+import com.berkedev.practice.practiceblogapi.event.PostChangedEvent;
+import com.berkedev.practice.practiceblogapi.exception.ResourceNotFoundException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Author pages built from {@link UserRepository#findAuthorProfileRows} and cached per author.
+ * Every page of an author is dropped together as soon as that author writes something.
+ * <p>
+ * Only the first {@code cachedPages} pages are cached, and never a page past the last post,
+ * so walking an author's pages cannot grow the cache beyond authors x cachedPages x page sizes.
+ * <p>
+ * The cache holds the unmodifiable query rows, not responses: every call gets its own
+ * {@link AuthorProfileResponse}, so a caller changing one cannot change what others are served.
+ */
+@Service
+public class AuthorProfileService {
+
+    private final UserRepository userRepository;
+    private final int maxPageSize;
+    private final int cachedPages;
+
+    // username -> cached pages, access ordered so the eldest entry is the least recently used author
+    private final Map<String, CachedAuthor> cache;
+    // bumped on every invalidation, a load that raced with a write is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AuthorProfileService(UserRepository userRepository, AuthorProfileProperties properties) {
+        this.userRepository = userRepository;
+        this.maxPageSize = properties.maxPageSize();
+        this.cachedPages = properties.cachedPages();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAuthor> eldest) {
+                return size() > properties.cacheSize();
+            }
+        };
+    }
+
+    public AuthorProfileResponse getProfile(String username, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        int pageNumber = Math.max(0, page);
+        PageKey key = new PageKey(pageNumber, pageSize);
+
+        CachedAuthor cached;
+        synchronized (cache) {
+            cached = cache.get(username);
+        }
+        if (cached != null) {
+            List<AuthorProfileRow> rows = cached.pages.get(key);
+            if (rows != null)
+                return toResponse(rows, pageNumber, pageSize);
+        }
+
+        long invalidationsBefore = invalidations.get();
+        List<AuthorProfileRow> rows = load(username, pageNumber, pageSize);
+        AuthorProfileResponse response = toResponse(rows, pageNumber, pageSize);
+        if (pageNumber >= cachedPages || (pageNumber > 0 && response.getPosts().isEmpty()))
+            return response;
+
+        synchronized (cache) {
+            if (invalidations.get() == invalidationsBefore)
+                cache.computeIfAbsent(username, name -> new CachedAuthor(response.getId()))
+                        .pages.put(key, rows);
+        }
+        return response;
+    }
+
+    public void invalidate(long authorId) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.values().removeIf(cached -> cached.authorId == authorId);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.post().getAuthor() != null)
+            invalidate(event.post().getAuthor().getId());
+    }
+
+    // published after the batch committed, one invalidation per author per batch
+    @EventListener
+    public void onCommentsIngested(CommentsIngestedEvent event) {
+        event.authorIds().forEach(this::invalidate);
+    }
+
+    private List<AuthorProfileRow> load(String username, int page, int size) {
+        // long: page * size overflows int for large page numbers
+        List<AuthorProfileRow> rows = userRepository.findAuthorProfileRows(username, (long) page * size, size);
+        if (rows.isEmpty())
+            throw new ResourceNotFoundException("User", username);
+        return List.copyOf(rows);
+    }
+
+    private static AuthorProfileResponse toResponse(List<AuthorProfileRow> rows, int page, int size) {
+        AuthorProfileRow author = rows.get(0);
+        List<PostSummaryResponse> posts = new ArrayList<>(rows.size());
+        for (AuthorProfileRow row : rows) {
+            if (row.getPostId() != null)
+                posts.add(PostSummaryResponse.builder()
+                        .id(row.getPostId())
+                        .title(row.getPostTitle())
+                        .slug(row.getPostSlug())
+                        .publishedAt(row.getPostPublishedAt())
+                        .build());
+        }
+
+        return AuthorProfileResponse.builder()
+                .id(author.getAuthorId())
+                .username(author.getUsername())
+                .fullName(author.getFullName())
+                .createdAt(author.getCreatedAt())
+                .publishedPostCount(author.getPublishedPostCount())
+                .draftPostCount(author.getDraftPostCount())
+                .commentCount(author.getCommentCount())
+                .page(page)
+                .size(size)
+                .posts(posts)
+                .build();
+    }
+
+    private record PageKey(int page, int size) {
+    }
+
+    private static final class CachedAuthor {
+
+        private final long authorId;
+        private final Map<PageKey, List<AuthorProfileRow>> pages = new ConcurrentHashMap<>();
+
+        private CachedAuthor(long authorId) {
+            this.authorId = authorId;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+import java.lang.annotation.*;
+
+/**
+ * Upper bounds for the SQL a single request may issue. Checked by
+ * {@link QueryBudgetInterceptor} when {@code blog.query-budget.enabled} is set.
+ * Zero or negative means no limit for that dimension.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    int statements() default 0;
+
+    int rows() default 0;
+
+    long millis() default 0;
+}
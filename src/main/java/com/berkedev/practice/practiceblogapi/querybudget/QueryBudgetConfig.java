@@ -0,0 +1,42 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Installs the counting DataSource and the request interceptor. Meant for tests and
+ * staging; production leaves {@code blog.query-budget.enabled} off and pays nothing.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "blog.query-budget", name = "enabled", havingValue = "true")
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetProperties properties;
+
+    public QueryBudgetConfig(QueryBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource))
+                    return new QueryCountingDataSource(dataSource);
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(properties.mode()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,46 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Opens a {@link QueryScope} around every handler annotated with {@link QueryBudget}
+ * and reports requests that went over it.
+ */
+@Slf4j
+class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".scope";
+
+    private final QueryBudgetProperties.Mode mode;
+
+    QueryBudgetInterceptor(QueryBudgetProperties.Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(QueryBudget.class)) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            String name = request.getMethod() + " " + request.getRequestURI();
+            request.setAttribute(SCOPE_ATTRIBUTE,
+                    QueryScope.open(name, QueryScope.Limits.of(budget), mode == QueryBudgetProperties.Mode.FAIL));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryScope scope))
+            return;
+
+        scope.close();
+        if (scope.isViolated())
+            log.warn("Query budget exceeded: {}", scope.describe(), scope.firstViolation());
+        else if (log.isDebugEnabled())
+            log.debug("Query budget ok: {}", scope.describe());
+    }
+}
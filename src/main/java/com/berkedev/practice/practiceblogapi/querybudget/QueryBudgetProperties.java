@@ -0,0 +1,18 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled wrap the DataSource and count every statement, off in production
+ * @param mode    {@code LOG} reports violations with the stack trace of the offending statement,
+ *                {@code FAIL} throws {@link QueryBudgetExceededException} from that statement
+ */
+@ConfigurationProperties(prefix = "blog.query-budget")
+public record QueryBudgetProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("LOG") Mode mode
+) {
+
+    public enum Mode {LOG, FAIL}
+}
@@ -0,0 +1,113 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+/**
+ * Wraps connections of the target pool in JDK proxies that report every executed
+ * statement, its execution time and every fetched row to the current {@link QueryScope}.
+ * Back references ({@code Statement.getConnection()}, {@code ResultSet.getStatement()})
+ * return the proxies too, so nothing reached through them escapes counting.
+ * Only installed when {@code blog.query-budget.enabled} is set.
+ */
+class QueryCountingDataSource extends DelegatingDataSource {
+
+    QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    // proxies compare by identity, a proxy must never be equal to the object it wraps
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if ("equals".equals(method.getName()) && method.getParameterCount() == 1)
+            return proxy == args[0];
+        if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0)
+            return System.identityHashCode(proxy);
+
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(proxy, target, method, args);
+            Connection connection = (Connection) proxy;
+
+            if (result instanceof CallableStatement statement)
+                return wrap(CallableStatement.class, statement, new StatementHandler(statement, (String) args[0], connection));
+            if (result instanceof PreparedStatement statement)
+                return wrap(PreparedStatement.class, statement, new StatementHandler(statement, (String) args[0], connection));
+            if (result instanceof Statement statement)
+                return wrap(Statement.class, statement, new StatementHandler(statement, null, connection));
+
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, String preparedSql, Connection connection) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("getConnection".equals(method.getName()) && method.getParameterCount() == 0)
+                return connection;
+            if (!method.getName().startsWith("execute"))
+                return wrapResultSet((Statement) proxy, QueryCountingDataSource.invoke(proxy, target, method, args));
+
+            long start = System.nanoTime();
+            Object result = QueryCountingDataSource.invoke(proxy, target, method, args);
+            String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 ? String.valueOf(args[0]) : "?";
+            QueryScope.recordStatement(sql, System.nanoTime() - start);
+
+            return wrapResultSet((Statement) proxy, result);
+        }
+
+        private static Object wrapResultSet(Statement statement, Object result) {
+            if (result instanceof ResultSet resultSet)
+                return wrap(ResultSet.class, resultSet, new ResultSetHandler(resultSet, statement));
+            return result;
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target, Statement statement) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("getStatement".equals(method.getName()) && method.getParameterCount() == 0)
+                return statement;
+
+            Object result = QueryCountingDataSource.invoke(proxy, target, method, args);
+
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result))
+                QueryScope.recordRow();
+
+            return result;
+        }
+    }
+}
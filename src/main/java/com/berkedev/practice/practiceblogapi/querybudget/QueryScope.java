@@ -0,0 +1,145 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts statements, fetched rows and execution time issued by the current thread
+ * between {@link #open} and {@link #close}. Requests get a scope from
+ * {@link QueryBudgetInterceptor}; tests can open one directly:
+ * <pre>{@code
+ * try (QueryScope scope = QueryScope.open("post by slug", Limits.statements(3))) {
+ *     postService.getBySlug("hello-world");
+ *     scope.assertWithinBudget();
+ * }
+ * }</pre>
+ * Scopes nest, an inner scope's statements are also counted by the outer ones.
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+    private static final int MAX_RECORDED_STATEMENTS = 50;
+
+    private final String name;
+    private final Limits limits;
+    private final boolean failFast;
+    private final QueryScope parent;
+
+    private int statements;
+    private long rows;
+    private long nanos;
+    private final List<String> sql = new ArrayList<>();
+    private Throwable firstViolation;
+
+    private QueryScope(String name, Limits limits, boolean failFast, QueryScope parent) {
+        this.name = name;
+        this.limits = limits;
+        this.failFast = failFast;
+        this.parent = parent;
+    }
+
+    public static QueryScope open(String name, Limits limits) {
+        return open(name, limits, false);
+    }
+
+    static QueryScope open(String name, Limits limits, boolean failFast) {
+        QueryScope scope = new QueryScope(name, limits, failFast, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void recordStatement(String statementSql, long elapsedNanos) {
+        for (QueryScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.nanos += elapsedNanos;
+            if (scope.sql.size() < MAX_RECORDED_STATEMENTS)
+                scope.sql.add(statementSql);
+            scope.check();
+        }
+    }
+
+    static void recordRow() {
+        for (QueryScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.rows++;
+            scope.check();
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long millis() {
+        return nanos / 1_000_000;
+    }
+
+    public List<String> sql() {
+        return List.copyOf(sql);
+    }
+
+    public boolean isViolated() {
+        return firstViolation != null;
+    }
+
+    /**
+     * Stack trace captured at the first statement or row that went over budget,
+     * pointing at the repository call and the code that triggered it.
+     */
+    public Throwable firstViolation() {
+        return firstViolation;
+    }
+
+    public void assertWithinBudget() {
+        if (firstViolation != null)
+            throw new AssertionError(describe(), firstViolation);
+    }
+
+    public String describe() {
+        return "%s: %d statements, %d rows, %d ms (budget %s)%nSQL:%n  %s"
+                .formatted(name, statements, rows, millis(), limits, String.join("\n  ", sql));
+    }
+
+    @Override
+    public void close() {
+        CURRENT.set(parent);
+    }
+
+    private void check() {
+        if (firstViolation != null || !limits.isExceededBy(statements, rows, nanos))
+            return;
+
+        firstViolation = new QueryBudgetExceededException(
+                "%s exceeded its query budget %s".formatted(name, limits));
+        if (failFast)
+            throw (QueryBudgetExceededException) firstViolation;
+    }
+
+    public record Limits(int statements, long rows, long millis) {
+
+        public static final Limits NONE = new Limits(0, 0, 0);
+
+        public static Limits statements(int statements) {
+            return new Limits(statements, 0, 0);
+        }
+
+        static Limits of(QueryBudget budget) {
+            return new Limits(budget.statements(), budget.rows(), budget.millis());
+        }
+
+        boolean isExceededBy(int statementCount, long rowCount, long elapsedNanos) {
+            return (statements > 0 && statementCount > statements)
+                    || (rows > 0 && rowCount > rows)
+                    || (millis > 0 && elapsedNanos > millis * 1_000_000);
+        }
+
+        @Override
+        public String toString() {
+            return "statements<=%s rows<=%s ms<=%s".formatted(
+                    statements > 0 ? statements : "-", rows > 0 ? rows : "-", millis > 0 ? millis : "-");
+        }
+    }
+}
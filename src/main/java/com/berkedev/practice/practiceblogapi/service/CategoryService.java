@@ -0,0 +1,47 @@
+package com.berkedev.practice.practiceblogapi.service;
+
+import com.berkedev.practice.practiceblogapi.data.dto.request.CategoryCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.response.CategoryResponse;
+import com.berkedev.practice.practiceblogapi.data.entity.Category;
+import com.berkedev.practice.practiceblogapi.data.mapper.CategoryMapper;
+import com.berkedev.practice.practiceblogapi.data.repository.CategoryRepository;
+import com.berkedev.practice.practiceblogapi.event.CategoryChangedEvent;
+import com.berkedev.practice.practiceblogapi.exception.ResourceAlreadyExistsException;
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKey;
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKeyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UniqueKeyService uniqueKeyService;
+
+    @Transactional
+    public CategoryResponse create(CategoryCreateRequest createRequest) {
+        if (uniqueKeyService.exists(UniqueKey.CATEGORY_NAME, createRequest.getName()))
+            throw new ResourceAlreadyExistsException("Category", createRequest.getName());
+
+        Category saved;
+        try {
+            // flushed here so a name taken behind the filter's back fails as 409 instead of at commit
+            saved = categoryRepository.saveAndFlush(categoryMapper.toEntity(createRequest));
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueKeyService.isUniqueViolation(e))
+                throw e;
+            throw new ResourceAlreadyExistsException("Category", createRequest.getName());
+        }
+
+        CategoryResponse response = categoryMapper.toResponse(saved);
+        eventPublisher.publishEvent(new CategoryChangedEvent(response));
+
+        return response;
+    }
+}
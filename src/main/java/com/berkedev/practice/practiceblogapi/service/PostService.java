@@ -0,0 +1,145 @@
+package com.berkedev.practice.practiceblogapi.service;
+
+import com.berkedev.practice.practiceblogapi.data.dto.request.PostCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.request.PostTagsRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.request.PostUpdateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostResponse;
+import com.berkedev.practice.practiceblogapi.data.entity.Category;
+import com.berkedev.practice.practiceblogapi.data.entity.Post;
+import com.berkedev.practice.practiceblogapi.data.entity.Tag;
+import com.berkedev.practice.practiceblogapi.data.entity.User;
+import com.berkedev.practice.practiceblogapi.data.mapper.PostMapper;
+import com.berkedev.practice.practiceblogapi.data.repository.CategoryRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.PostRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.TagRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.UserRepository;
+import com.berkedev.practice.practiceblogapi.event.PostChangedEvent;
+import com.berkedev.practice.practiceblogapi.exception.ResourceAlreadyExistsException;
+import com.berkedev.practice.practiceblogapi.exception.ResourceNotFoundException;
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKey;
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKeyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class PostService {
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final TagService tagService;
+    private final PostMapper postMapper;
+    private final UniqueKeyService uniqueKeyService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public PostResponse getBySlug(String slug) {
+        Post post = postRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", slug));
+
+        return postMapper.toResponse(post);
+    }
+
+    public boolean isSlugAvailable(String slug) {
+        return !uniqueKeyService.exists(UniqueKey.POST_SLUG, slug);
+    }
+
+    @Transactional
+    public PostResponse create(Long authorId, PostCreateRequest createRequest) {
+        if (!isSlugAvailable(createRequest.getSlug()))
+            throw new ResourceAlreadyExistsException("Post", createRequest.getSlug());
+
+        User author = userRepository.findById(authorId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", authorId));
+
+        Post post = postMapper.toEntity(createRequest);
+        post.setAuthor(author);
+        post.setCategory(findCategory(createRequest.getCategoryId()));
+        post.replaceTags(resolveTags(createRequest.getTagIds(), createRequest.getTagNames()));
+        markPublished(post);
+
+        return saveAndPublish(post);
+    }
+
+    @Transactional
+    public PostResponse update(Long postId, PostUpdateRequest updateRequest) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", postId));
+
+        if (updateRequest.getSlug() != null && !updateRequest.getSlug().equals(post.getSlug())
+                && !isSlugAvailable(updateRequest.getSlug()))
+            throw new ResourceAlreadyExistsException("Post", updateRequest.getSlug());
+
+        postMapper.updateEntityFromRequest(updateRequest, post);
+
+        if (updateRequest.getCategoryId() != null)
+            post.setCategory(findCategory(updateRequest.getCategoryId()));
+
+        if (updateRequest.getTagIds() != null || updateRequest.getTagNames() != null)
+            post.replaceTags(resolveTags(updateRequest.getTagIds(), updateRequest.getTagNames()));
+
+        markPublished(post);
+
+        return saveAndPublish(post);
+    }
+
+    @Transactional
+    public PostResponse attachTags(Long postId, PostTagsRequest tagsRequest) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", postId));
+
+        post.getTags().addAll(tagService.findOrCreateByNames(tagsRequest.getNames()));
+
+        return saveAndPublish(post);
+    }
+
+    private Category findCategory(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", categoryId));
+    }
+
+    // one IN query for ids and one upsert plus one select for names, never one query per tag
+    private Set<Tag> resolveTags(List<Long> tagIds, List<String> tagNames) {
+        Set<Tag> tags = new LinkedHashSet<>();
+
+        if (tagIds != null && !tagIds.isEmpty())
+            tags.addAll(tagRepository.findAllById(tagIds));
+
+        if (tagNames != null && !tagNames.isEmpty())
+            tags.addAll(tagService.findOrCreateByNames(tagNames));
+
+        return tags;
+    }
+
+    private void markPublished(Post post) {
+        if (post.isPublished() && post.getPublishedAt() == null)
+            post.setPublishedAt(LocalDateTime.now());
+    }
+
+    // flushed here so a slug taken behind the filter's back fails as 409 instead of at commit
+    private PostResponse saveAndPublish(Post post) {
+        Post saved;
+        try {
+            saved = postRepository.saveAndFlush(post);
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueKeyService.isUniqueViolation(e))
+                throw e;
+            throw new ResourceAlreadyExistsException("Post", post.getSlug());
+        }
+
+        PostResponse response = postMapper.toResponse(saved);
+        eventPublisher.publishEvent(new PostChangedEvent(response));
+
+        return response;
+    }
+}
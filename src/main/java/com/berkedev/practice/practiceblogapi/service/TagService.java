@@ -0,0 +1,103 @@
+package com.berkedev.practice.practiceblogapi.service;
+
+import com.berkedev.practice.practiceblogapi.data.dto.request.TagCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.request.TagUpdateRequest;
+import com.berkedev.practice.practiceblogapi.data.dto.response.TagResponse;
+import com.berkedev.practice.practiceblogapi.data.entity.Tag;
+import com.berkedev.practice.practiceblogapi.data.mapper.TagMapper;
+import com.berkedev.practice.practiceblogapi.data.repository.TagRepository;
+import com.berkedev.practice.practiceblogapi.event.TagChangedEvent;
+import com.berkedev.practice.practiceblogapi.exception.InvalidRequestException;
+import com.berkedev.practice.practiceblogapi.exception.ResourceAlreadyExistsException;
+import com.berkedev.practice.practiceblogapi.exception.ResourceNotFoundException;
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKey;
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKeyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+    // same bounds as the request validation, which only sees the names before they are stripped
+    private static final int MIN_NAME_LENGTH = 2;
+    private static final int MAX_NAME_LENGTH = 15;
+
+    private final TagRepository tagRepository;
+    private final TagMapper tagMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UniqueKeyService uniqueKeyService;
+
+    @Transactional
+    public TagResponse create(TagCreateRequest createRequest) {
+        if (uniqueKeyService.exists(UniqueKey.TAG_NAME, createRequest.getName()))
+            throw new ResourceAlreadyExistsException("Tag", createRequest.getName());
+
+        return saveAndPublish(tagMapper.toEntity(createRequest));
+    }
+
+    @Transactional
+    public TagResponse rename(Long tagId, TagUpdateRequest updateRequest) {
+        Tag tag = tagRepository.findById(tagId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tag", tagId));
+
+        if (!tag.getName().equals(updateRequest.getName()) && uniqueKeyService.exists(UniqueKey.TAG_NAME, updateRequest.getName()))
+            throw new ResourceAlreadyExistsException("Tag", updateRequest.getName());
+
+        tagMapper.updateEntityFromRequest(updateRequest, tag);
+
+        return saveAndPublish(tag);
+    }
+
+    /**
+     * Returns the tags with the given names, creating the missing ones.
+     * Costs two statements however many names are passed: one upsert and one select.
+     */
+    @Transactional
+    public Set<Tag> findOrCreateByNames(Collection<String> names) {
+        Set<String> distinctNames = new LinkedHashSet<>();
+        for (String name : names) {
+            String stripped = name.strip();
+            if (stripped.length() < MIN_NAME_LENGTH || stripped.length() > MAX_NAME_LENGTH)
+                throw new InvalidRequestException("tag name must be between " + MIN_NAME_LENGTH + " - " + MAX_NAME_LENGTH + " characters: '" + name + "'");
+            distinctNames.add(stripped);
+        }
+
+        if (distinctNames.isEmpty())
+            return new LinkedHashSet<>();
+
+        List<Tag> created = tagRepository.insertMissing(distinctNames.toArray(String[]::new));
+        for (Tag tag : created) {
+            // the native insert bypasses the entity listener
+            uniqueKeyService.record(UniqueKey.TAG_NAME, tag.getName());
+            eventPublisher.publishEvent(new TagChangedEvent(tagMapper.toResponse(tag)));
+        }
+
+        return new LinkedHashSet<>(tagRepository.findByNameIn(distinctNames));
+    }
+
+    // flushed here so a name taken behind the filter's back fails as 409 instead of at commit
+    private TagResponse saveAndPublish(Tag tag) {
+        Tag saved;
+        try {
+            saved = tagRepository.saveAndFlush(tag);
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueKeyService.isUniqueViolation(e))
+                throw e;
+            throw new ResourceAlreadyExistsException("Tag", tag.getName());
+        }
+
+        TagResponse response = tagMapper.toResponse(saved);
+        eventPublisher.publishEvent(new TagChangedEvent(response));
+
+        return response;
+    }
+}
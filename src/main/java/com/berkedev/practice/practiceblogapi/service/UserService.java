@@ -0,0 +1,21 @@
+package com.berkedev.practice.practiceblogapi.service;
+
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKey;
+import com.berkedev.practice.practiceblogapi.uniquekey.UniqueKeyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+    private final UniqueKeyService uniqueKeyService;
+
+    public boolean isUsernameAvailable(String username) {
+        return !uniqueKeyService.exists(UniqueKey.USERNAME, username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        return !uniqueKeyService.exists(UniqueKey.EMAIL, email);
+    }
+}
@@ -0,0 +1,40 @@
+package com.berkedev.practice.practiceblogapi.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the full-table work components do once at startup and logs how long each took.
+ * <p>
+ * By default a warm-up runs inline, so the application only reports ready once filters,
+ * indexes and feeds are loaded. With {@code blog.warm-up.background} (set by the
+ * {@code fast-startup} profile) each one runs on its own virtual thread instead; every
+ * component falls back to the database until its warm-up has finished (unique key checks
+ * query directly, autocomplete runs a prefix query, the feed loads on its first request).
+ */
+@Slf4j
+@Component
+public class WarmUp {
+
+    private final boolean background;
+
+    public WarmUp(WarmUpProperties properties) {
+        this.background = properties.background();
+    }
+
+    public void run(String name, Runnable task) {
+        if (background)
+            Thread.ofVirtual().name("warm-up-" + name).start(() -> timed(name, task));
+        else
+            timed(name, task);
+    }
+
+    private static void timed(String name, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            log.info("Warm-up {} finished in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
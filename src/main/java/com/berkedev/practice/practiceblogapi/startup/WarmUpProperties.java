@@ -0,0 +1,14 @@
+package com.berkedev.practice.practiceblogapi.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param background run startup warm-ups (filters, indexes, feeds, partition checks) on their own
+ *                   threads instead of before the application reports ready
+ */
+@ConfigurationProperties(prefix = "blog.warm-up")
+public record WarmUpProperties(
+        @DefaultValue("false") boolean background
+) {
+}
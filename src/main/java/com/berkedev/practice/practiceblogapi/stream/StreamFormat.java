@@ -0,0 +1,50 @@
+package com.berkedev.practice.practiceblogapi.stream;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wire formats of the streaming read API: one JSON document per line, or one
+ * server-sent event per item. A stream that fails after the first bytes ends with
+ * an error record (an {@code error} event for SSE), the status code is already sent.
+ */
+public enum StreamFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "", "\n", "{\"error\":\"stream aborted\"}\n"),
+    SSE(MediaType.TEXT_EVENT_STREAM, "data: ", "\n\n", "event: error\ndata: {\"error\":\"stream aborted\"}\n\n");
+
+    private final MediaType mediaType;
+    private final byte[] prefix;
+    private final byte[] suffix;
+    private final byte[] error;
+
+    StreamFormat(MediaType mediaType, String prefix, String suffix, String error) {
+        this.mediaType = mediaType;
+        this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+        this.suffix = suffix.getBytes(StandardCharsets.UTF_8);
+        this.error = error.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    byte[] prefix() {
+        return prefix;
+    }
+
+    byte[] suffix() {
+        return suffix;
+    }
+
+    byte[] error() {
+        return error;
+    }
+
+    public static StreamFormat fromAccept(String accept) {
+        if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE))
+            return SSE;
+        return NDJSON;
+    }
+}
@@ -0,0 +1,13 @@
+package com.berkedev.practice.practiceblogapi.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param pageSize rows fetched per query while streaming, also how many items are written between flushes
+ */
+@ConfigurationProperties(prefix = "blog.stream")
+public record StreamProperties(
+        @DefaultValue("200") int pageSize
+) {
+}
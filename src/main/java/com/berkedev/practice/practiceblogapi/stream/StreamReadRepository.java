@@ -0,0 +1,89 @@
+package com.berkedev.practice.practiceblogapi.stream;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.CommentResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostSummaryResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.TagResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.UserResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only keyset queries behind the streaming endpoints. Plain JDBC next to the JPA
+ * repositories: no persistence context, no entity hydration, each call borrows a
+ * connection for one page only. Writes keep going through JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+class StreamReadRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    List<PostSummaryResponse> findPublishedPostsBefore(PostSummaryResponse last, int limit) {
+        if (last == null)
+            return jdbcTemplate.query("""
+                    select id, title, slug, published_at from posts
+                     where published and published_at is not null
+                     order by published_at desc, id desc
+                     limit ?
+                    """, (rs, row) -> post(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getTimestamp(4)), limit);
+
+        return jdbcTemplate.query("""
+                select id, title, slug, published_at from posts
+                 where published and published_at is not null
+                   and (published_at, id) < (?, ?)
+                 order by published_at desc, id desc
+                 limit ?
+                """, (rs, row) -> post(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getTimestamp(4)),
+                Timestamp.valueOf(last.getPublishedAt()), last.getId(), limit);
+    }
+
+    Optional<LocalDateTime> findPostCreatedAt(long postId) {
+        return jdbcTemplate.query("select created_at from posts where id = ?",
+                        (rs, row) -> rs.getTimestamp(1).toLocalDateTime(), postId)
+                .stream()
+                .findFirst();
+    }
+
+    // since is the post's creation time, it lets PostgreSQL prune older comment partitions; comments
+    // already moved to comments_archive are not streamed
+    List<CommentResponse> findPostCommentsBefore(long postId, LocalDateTime since, CommentResponse last, int limit) {
+        LocalDateTime beforeCreatedAt = last == null ? LocalDateTime.of(9999, 1, 1, 0, 0) : last.getCreatedAt();
+        long beforeId = last == null ? Long.MAX_VALUE : last.getId();
+
+        return jdbcTemplate.query("""
+                select c.id, c.content, c.created_at, u.id, u.username, u.full_name
+                  from comments c
+                  join users u on u.id = c.user_id
+                 where c.post_id = ? and c.created_at >= ?
+                   and (c.created_at, c.id) < (?, ?)
+                 order by c.created_at desc, c.id desc
+                 limit ?
+                """, (rs, row) -> CommentResponse.builder()
+                        .id(rs.getLong(1))
+                        .content(rs.getString(2))
+                        .createdAt(rs.getTimestamp(3).toLocalDateTime())
+                        .author(UserResponse.builder()
+                                .id(rs.getLong(4))
+                                .username(rs.getString(5))
+                                .fullName(rs.getString(6))
+                                .build())
+                        .build(),
+                postId, Timestamp.valueOf(since), Timestamp.valueOf(beforeCreatedAt), beforeId, limit);
+    }
+
+    List<TagResponse> findTagsAfter(TagResponse last, int limit) {
+        return jdbcTemplate.query("select id, name from tags where name > ? order by name limit ?",
+                (rs, row) -> new TagResponse(rs.getLong(1), rs.getString(2)),
+                last == null ? "" : last.getName(), limit);
+    }
+
+    private static PostSummaryResponse post(long id, String title, String slug, Timestamp publishedAt) {
+        return new PostSummaryResponse(id, title, slug, publishedAt.toLocalDateTime());
+    }
+}
@@ -0,0 +1,81 @@
+package com.berkedev.practice.practiceblogapi.stream;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.CommentResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.PostSummaryResponse;
+import com.berkedev.practice.practiceblogapi.data.dto.response.TagResponse;
+import com.berkedev.practice.practiceblogapi.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streams posts, comments and tags page by page. A page is only fetched after the
+ * previous one was written and flushed, so a slow client slows down its own reads
+ * (the socket write blocks) instead of buffering the whole result in memory, and no
+ * database connection is held while waiting on the client.
+ * <p>
+ * A stream runs under {@code spring.mvc.async.request-timeout}; a client too slow to
+ * finish within it is cut off like one whose stream failed.
+ */
+@Service
+public class StreamReadService {
+
+    private final StreamReadRepository streamReadRepository;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    public StreamReadService(StreamReadRepository streamReadRepository,
+                             ObjectMapper objectMapper,
+                             StreamProperties properties) {
+        this.streamReadRepository = streamReadRepository;
+        this.objectMapper = objectMapper;
+        this.pageSize = properties.pageSize();
+    }
+
+    public StreamingResponseBody publishedPosts(StreamFormat format) {
+        return out -> write(out, format, (PostSummaryResponse last) -> streamReadRepository.findPublishedPostsBefore(last, pageSize));
+    }
+
+    public StreamingResponseBody postComments(long postId, StreamFormat format) {
+        // resolved before streaming starts so an unknown post is still a 404
+        LocalDateTime since = streamReadRepository.findPostCreatedAt(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", postId));
+
+        return out -> write(out, format,
+                (CommentResponse last) -> streamReadRepository.findPostCommentsBefore(postId, since, last, pageSize));
+    }
+
+    public StreamingResponseBody tags(StreamFormat format) {
+        return out -> write(out, format, (TagResponse last) -> streamReadRepository.findTagsAfter(last, pageSize));
+    }
+
+    private <T> void write(OutputStream out, StreamFormat format, Function<T, List<T>> nextPage) throws IOException {
+        T last = null;
+        List<T> page;
+        do {
+            try {
+                page = nextPage.apply(last);
+            } catch (RuntimeException e) {
+                // earlier pages are already out, mark the stream as incomplete instead of just ending it
+                out.write(format.error());
+                out.flush();
+                throw e;
+            }
+            for (T item : page) {
+                out.write(format.prefix());
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write(format.suffix());
+            }
+            out.flush();
+
+            if (!page.isEmpty())
+                last = page.get(page.size() - 1);
+        } while (page.size() == pageSize);
+    }
+}
@@ -0,0 +1,85 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings. {@link #mightContain} never returns false
+ * for a value that was {@link #put}; it returns true for an absent value with
+ * roughly the configured false positive probability while at most
+ * {@code capacity} values have been added.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong insertions = new AtomicLong();
+
+    BloomFilter(long capacity, double falsePositiveRate) {
+        this.capacity = Math.max(1, capacity);
+        long optimalBits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * Math.log(2)));
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0xC2B2AE3D27D4EB4FL) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            bits.accumulateAndGet((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0xC2B2AE3D27D4EB4FL) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * More values than the filter was sized for, the false positive rate is climbing.
+     */
+    boolean isSaturated() {
+        return insertions.get() > capacity;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    // FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,12 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+/**
+ * Columns with a unique constraint that are checked before inserts and by live availability checks.
+ */
+public enum UniqueKey {
+    POST_SLUG,
+    USERNAME,
+    EMAIL,
+    TAG_NAME,
+    CATEGORY_NAME
+}
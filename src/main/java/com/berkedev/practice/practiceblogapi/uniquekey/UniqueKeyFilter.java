@@ -0,0 +1,68 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Current Bloom filter of one {@link UniqueKey}. Values added from the moment a rebuild
+ * starts, before it counts or scans the table, are remembered and replayed into the new
+ * filter before it is swapped in, so a value written by this instance is never missing
+ * from the filter that answers.
+ */
+class UniqueKeyFilter {
+
+    // null until the first build finished, every check goes to the database until then
+    private volatile BloomFilter filter;
+    private List<String> addedDuringRebuild;
+
+    boolean isReady() {
+        return filter != null;
+    }
+
+    boolean isSaturated() {
+        BloomFilter current = filter;
+        return current != null && current.isSaturated();
+    }
+
+    boolean mightContain(String value) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(value);
+    }
+
+    synchronized void put(String value) {
+        if (filter != null)
+            filter.put(value);
+        if (addedDuringRebuild != null)
+            addedDuringRebuild.add(value);
+    }
+
+    // like put, but does not count a value the filter already reports towards saturation
+    synchronized void putIfAbsent(String value) {
+        if (filter != null && !filter.mightContain(value))
+            filter.put(value);
+        if (addedDuringRebuild != null)
+            addedDuringRebuild.add(value);
+    }
+
+    /**
+     * @param build sizes and fills a new filter from the table; runs after recording started
+     */
+    void rebuild(Supplier<BloomFilter> build) {
+        synchronized (this) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            BloomFilter rebuilt = build.get();
+
+            synchronized (this) {
+                addedDuringRebuild.forEach(rebuilt::put);
+                filter = rebuilt;
+            }
+        } finally {
+            synchronized (this) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+import com.berkedev.practice.practiceblogapi.data.entity.Category;
+import com.berkedev.practice.practiceblogapi.data.entity.Post;
+import com.berkedev.practice.practiceblogapi.data.entity.Tag;
+import com.berkedev.practice.practiceblogapi.data.entity.User;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener feeding every persisted or changed unique value into the filters,
+ * whatever code path saved the entity. Runs before commit: a rolled back value only
+ * costs a false positive, never a false negative. {@link UniqueKeyService#record} adds it
+ * once more after commit. Hibernate creates it through Spring, the provider defers the
+ * lookup until the first write.
+ */
+public class UniqueKeyListener {
+
+    private final ObjectProvider<UniqueKeyService> uniqueKeyService;
+
+    public UniqueKeyListener(ObjectProvider<UniqueKeyService> uniqueKeyService) {
+        this.uniqueKeyService = uniqueKeyService;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void record(Object entity) {
+        UniqueKeyService service = uniqueKeyService.getIfAvailable();
+        if (service == null)
+            return;
+
+        switch (entity) {
+            case Post post -> service.record(UniqueKey.POST_SLUG, post.getSlug());
+            case User user -> {
+                service.record(UniqueKey.USERNAME, user.getUsername());
+                service.record(UniqueKey.EMAIL, user.getEmail());
+            }
+            case Tag tag -> service.record(UniqueKey.TAG_NAME, tag.getName());
+            case Category category -> service.record(UniqueKey.CATEGORY_NAME, category.getName());
+            default -> {
+            }
+        }
+    }
+}
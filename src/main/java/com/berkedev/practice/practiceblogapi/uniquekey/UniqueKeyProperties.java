@@ -0,0 +1,15 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param falsePositiveRate target rate of "maybe" answers that still need the indexed lookup
+ * @param headroom          filters are sized for this many times the rows found at build time
+ */
+@ConfigurationProperties(prefix = "blog.unique-keys")
+public record UniqueKeyProperties(
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("2.0") double headroom
+) {
+}
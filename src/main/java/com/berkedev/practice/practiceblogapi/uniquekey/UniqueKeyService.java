@@ -0,0 +1,159 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+import com.berkedev.practice.practiceblogapi.data.repository.CategoryRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.PostRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.TagRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.UserRepository;
+import com.berkedev.practice.practiceblogapi.startup.WarmUp;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Answers "is this value taken?" for unique columns. A Bloom filter per key rules out
+ * most free values without a query; only values the filter might contain are confirmed
+ * with the indexed {@code existsBy...} lookup.
+ * <p>
+ * Filters are filled from a streaming scan at startup and rebuilt larger once they hold
+ * more values than they were sized for. New values are added by {@link UniqueKeyListener}
+ * when an entity is persisted or updated, before the transaction commits, and again after
+ * it commits in case a rebuild scanned the table in between.
+ * <p>
+ * The filters are per instance: values written by another instance or by plain SQL are
+ * unknown until the next rebuild, so a "free" answer is a fast pre-check, not a guarantee.
+ * The unique constraint stays the final check; services turn its violation (and only that,
+ * see {@link #isUniqueViolation}) into a 409.
+ */
+@Slf4j
+@Service
+public class UniqueKeyService {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final Map<UniqueKey, UniqueKeyFilter> filters = new EnumMap<>(UniqueKey.class);
+    private final Map<UniqueKey, KeySource> sources = new EnumMap<>(UniqueKey.class);
+    private final TransactionTemplate readOnlyTransaction;
+    private final UniqueKeyProperties properties;
+    private final WarmUp warmUp;
+
+    public UniqueKeyService(PostRepository postRepository,
+                            UserRepository userRepository,
+                            TagRepository tagRepository,
+                            CategoryRepository categoryRepository,
+                            PlatformTransactionManager transactionManager,
+                            UniqueKeyProperties properties,
+                            WarmUp warmUp) {
+        this.properties = properties;
+        this.warmUp = warmUp;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        sources.put(UniqueKey.POST_SLUG, new KeySource(postRepository::count, postRepository::streamAllSlugs, postRepository::existsBySlug));
+        sources.put(UniqueKey.USERNAME, new KeySource(userRepository::count, userRepository::streamAllUsernames, userRepository::existsByUsername));
+        sources.put(UniqueKey.EMAIL, new KeySource(userRepository::count, userRepository::streamAllEmails, userRepository::existsByEmail));
+        sources.put(UniqueKey.TAG_NAME, new KeySource(tagRepository::count, tagRepository::streamAllNames, tagRepository::existsByName));
+        sources.put(UniqueKey.CATEGORY_NAME, new KeySource(categoryRepository::count, categoryRepository::streamAllNames, categoryRepository::existsByName));
+
+        for (UniqueKey key : UniqueKey.values()) {
+            filters.put(key, new UniqueKeyFilter());
+        }
+    }
+
+    public boolean exists(UniqueKey key, String value) {
+        if (value == null || !filters.get(key).mightContain(value))
+            return false;
+
+        return sources.get(key).exists().test(value);
+    }
+
+    public void record(UniqueKey key, String value) {
+        if (value == null)
+            return;
+
+        UniqueKeyFilter filter = filters.get(key);
+        filter.put(value);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    filter.putIfAbsent(value);
+                }
+            });
+    }
+
+    /**
+     * Whether the integrity violation is a unique constraint (SQLState 23505) rather than a
+     * foreign key, not-null or length violation, which are not "already exists" conflicts.
+     */
+    public static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException)
+            return true;
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation)
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                        || UNIQUE_VIOLATION.equals(violation.getSQLState());
+            if (cause instanceof SQLException sqlException)
+                return UNIQUE_VIOLATION.equals(sqlException.getSQLState());
+        }
+        return false;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmUp.run("unique-key-filters", this::buildAll);
+    }
+
+    public void buildAll() {
+        for (UniqueKey key : UniqueKey.values()) {
+            rebuild(key);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${blog.unique-keys.rebuild-check-interval:PT1H}",
+            fixedDelayString = "${blog.unique-keys.rebuild-check-interval:PT1H}")
+    public void rebuildSaturated() {
+        filters.forEach((key, filter) -> {
+            if (filter.isSaturated())
+                rebuild(key);
+        });
+    }
+
+    private void rebuild(UniqueKey key) {
+        KeySource source = sources.get(key);
+        try {
+            filters.get(key).rebuild(() -> readOnlyTransaction.execute(status -> {
+                long rows = source.count().getAsLong();
+                BloomFilter filter = new BloomFilter(
+                        Math.max(1024, (long) (rows * properties.headroom())), properties.falsePositiveRate());
+
+                try (Stream<String> values = source.scan().get()) {
+                    values.forEach(filter::put);
+                }
+                log.info("Built {} filter from {} rows", key, rows);
+                return filter;
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Could not build the {} filter, checks keep going to the database", key, e);
+        }
+    }
+
+    private record KeySource(LongSupplier count, Supplier<Stream<String>> scan, Predicate<String> exists) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.berkedev.practice.practiceblogapi.autocomplete;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.SuggestionResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    private final NameIndex index = new NameIndex(10);
+
+    @Test
+    void renameReplacesTheOldNameAndKeepsUsage() {
+        index.replaceAll(List.of(new SuggestionResponse(1L, "spring", 4L)));
+
+        index.put(1, "summer");
+
+        assertEquals(List.of(), index.complete("spr", 10));
+        assertEquals(List.of(new IndexedName(1, "summer", 4)), index.complete("sum", 10));
+    }
+
+    @Test
+    void createDuringReloadSurvivesTheOlderSnapshot() {
+        index.beginReload();
+        // committed after the reload read its rows
+        index.put(2, "docker");
+        index.replaceAll(List.of(new SuggestionResponse(1L, "spring", 4L)));
+        index.endReload();
+
+        assertEquals(List.of(new IndexedName(2, "docker", 0)), index.complete("d", 10));
+        assertEquals(List.of(new IndexedName(1, "spring", 4)), index.complete("s", 10));
+    }
+
+    @Test
+    void putsAfterAReloadAreNotReplayedByTheNextOne() {
+        index.beginReload();
+        index.put(2, "docker");
+        index.endReload();
+
+        index.replaceAll(List.of());
+
+        assertEquals(List.of(), index.complete("d", 10));
+    }
+
+    @Test
+    void isLoadedOnlyAfterTheFirstReload() {
+        index.put(2, "docker");
+        assertFalse(index.isLoaded());
+
+        index.replaceAll(List.of());
+
+        assertTrue(index.isLoaded());
+    }
+
+    @Test
+    void likePatternMatchesWildcardsLiterally() {
+        assertEquals("spring%", AutocompleteService.likePattern(" Spring "));
+        assertEquals("100\\%\\_off\\\\%", AutocompleteService.likePattern("100%_off\\"));
+        assertEquals("%", AutocompleteService.likePattern(null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.berkedev.practice.practiceblogapi.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    private static final List<IndexedName> NAMES = List.of(
+            new IndexedName(1, "java", 10),
+            new IndexedName(2, "JavaScript", 30),
+            new IndexedName(3, "jakarta", 5),
+            new IndexedName(4, "kotlin", 7),
+            new IndexedName(5, "jvm", 5));
+
+    @Test
+    void completesCaseInsensitivelyInRankOrder() {
+        PrefixIndex index = PrefixIndex.build(NAMES, 10);
+
+        assertEquals(List.of("JavaScript", "java"), names(index.complete("JAV", 10)));
+        // equal usage falls back to alphabetical order
+        assertEquals(List.of("JavaScript", "java", "jakarta", "jvm"), names(index.complete(" j", 10)));
+    }
+
+    @Test
+    void keepsOnlyTopKPerNodeAndHonoursTheLimit() {
+        PrefixIndex index = PrefixIndex.build(NAMES, 2);
+
+        assertEquals(List.of("JavaScript", "java"), names(index.complete("j", 10)));
+        assertEquals(List.of("JavaScript"), names(index.complete("j", 1)));
+        assertEquals(List.of("JavaScript", "java"), names(index.complete("", 10)));
+    }
+
+    @Test
+    void unknownPrefixHasNoCompletions() {
+        PrefixIndex index = PrefixIndex.build(NAMES, 10);
+
+        assertEquals(List.of(), index.complete("javax", 10));
+        assertEquals(List.of(), PrefixIndex.EMPTY.complete("j", 10));
+    }
+
+    @Test
+    void withAddsANameWithoutChangingTheOriginal() {
+        PrefixIndex index = PrefixIndex.build(NAMES, 10);
+
+        PrefixIndex extended = index.with(new IndexedName(6, "jaxb", 0), 10);
+
+        assertEquals(List.of("JavaScript", "java", "jakarta", "jaxb"), names(extended.complete("ja", 10)));
+        assertEquals(List.of("jaxb"), names(extended.complete("jax", 10)));
+        assertEquals(List.of("JavaScript", "java", "jakarta"), names(index.complete("ja", 10)));
+    }
+
+    @Test
+    void incrementalInsertsMatchAFullBuild() {
+        Random random = new Random(42);
+        List<IndexedName> names = new ArrayList<>();
+        PrefixIndex incremental = PrefixIndex.EMPTY;
+
+        for (int id = 0; id < 500; id++) {
+            IndexedName name = new IndexedName(id, randomWord(random), random.nextInt(20));
+            names.add(name);
+            incremental = incremental.with(name, 5);
+        }
+        PrefixIndex built = PrefixIndex.build(names, 5);
+
+        for (String prefix : List.of("", "a", "b", "ab", "ba", "abc", "cab", "zz")) {
+            assertEquals(built.complete(prefix, 5), incremental.complete(prefix, 5), prefix);
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+
+    private static List<String> names(List<IndexedName> names) {
+        return names.stream().map(IndexedName::name).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.data.entity.Category;
+import com.berkedev.practice.practiceblogapi.data.entity.Post;
+import com.berkedev.practice.practiceblogapi.data.entity.Tag;
+import com.berkedev.practice.practiceblogapi.data.entity.User;
+import com.berkedev.practice.practiceblogapi.data.repository.CategoryRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.PostRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.TagRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.UserRepository;
+import com.berkedev.practice.practiceblogapi.querybudget.QueryScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs {@code GET /api/posts/{slug}} against PostgreSQL with the {@code test} profile,
+ * where {@code @QueryBudget} violations fail the request. The surrounding scope checks
+ * the same budget from the outside, so an N+1 regression fails here with the SQL listed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers
+class PostControllerQueryBudgetTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private PostRepository postRepository;
+
+    private String slug;
+
+    @BeforeEach
+    void createPost() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        User author = new User();
+        author.setUsername("author-" + suffix);
+        author.setEmail("author-" + suffix + "@example.com");
+        author.setPassword("secret");
+        author = userRepository.save(author);
+
+        Category category = new Category();
+        category.setName("category-" + suffix);
+        category = categoryRepository.save(category);
+
+        List<Tag> tags = tagRepository.saveAll(List.of(
+                new Tag("java-" + suffix), new Tag("jpa-" + suffix), new Tag("sql-" + suffix)));
+
+        slug = "budgeted-post-" + suffix;
+        Post post = Post.builder()
+                .title("Budgeted post")
+                .slug(slug)
+                .content("x".repeat(60))
+                .published(true)
+                .author(author)
+                .category(category)
+                .build();
+        post.replaceTags(tags);
+        postRepository.save(post);
+    }
+
+    @Test
+    void postBySlugStaysWithinItsQueryBudget() throws Exception {
+        try (QueryScope scope = QueryScope.open("GET /api/posts/{slug}", QueryScope.Limits.statements(3))) {
+            mockMvc.perform(get("/api/posts/{slug}", slug))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.slug").value(slug))
+                    .andExpect(jsonPath("$.tags.length()").value(3));
+
+            scope.assertWithinBudget();
+            // proves the counting DataSource is installed, an unwrapped pool would report 0
+            assertTrue(scope.statements() > 0, scope::describe);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.berkedev.practice.practiceblogapi.controller;
+
+import com.berkedev.practice.practiceblogapi.data.entity.Category;
+import com.berkedev.practice.practiceblogapi.data.entity.Post;
+import com.berkedev.practice.practiceblogapi.data.entity.User;
+import com.berkedev.practice.practiceblogapi.data.repository.CategoryRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.PostRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Streams more rows than one page holds, all sharing the same timestamp, so every page
+ * boundary falls inside a tie and only the id part of the keyset keeps rows from being
+ * skipped or repeated.
+ */
+@SpringBootTest(properties = "blog.stream.page-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers
+class StreamControllerTest {
+
+    private static final int ROWS = 7;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostRepository postRepository;
+
+    private final List<Long> postIds = new ArrayList<>();
+    private final List<Long> commentIds = new ArrayList<>();
+    private long commentedPostId;
+
+    @BeforeEach
+    void createTiedRows() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Timestamp tie = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusMinutes(1));
+
+        User author = new User();
+        author.setUsername("streamer-" + suffix);
+        author.setEmail("streamer-" + suffix + "@example.com");
+        author.setPassword("secret");
+        author = userRepository.save(author);
+
+        Category category = new Category();
+        category.setName("streamed-" + suffix);
+        category = categoryRepository.save(category);
+
+        for (int i = 0; i < ROWS; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("Tied post " + i)
+                    .slug("tied-post-" + suffix + "-" + i)
+                    .content("x".repeat(60))
+                    .published(true)
+                    .author(author)
+                    .category(category)
+                    .build());
+            jdbcTemplate.update("update posts set published_at = ? where id = ?", tie, post.getId());
+            postIds.add(post.getId());
+        }
+
+        commentedPostId = postIds.get(0);
+        for (int i = 0; i < ROWS; i++) {
+            commentIds.add(jdbcTemplate.queryForObject("""
+                    insert into comments (id, content, created_at, user_id, post_id)
+                    values (nextval('comment_id_seq'), ?, ?, ?, ?) returning id
+                    """, Long.class, "tied comment " + i, tie, author.getId(), commentedPostId));
+        }
+    }
+
+    @Test
+    void publishedPostsArePagedPastTiesWithoutGapsOrRepeats() throws Exception {
+        List<Long> streamed = ids(stream("/api/stream/posts"));
+
+        assertEquals(streamed.size(), streamed.stream().distinct().count(), "no post streamed twice");
+        assertTrue(streamed.containsAll(postIds), "every tied post streamed");
+        assertIdsDescendWithin(streamed, postIds);
+    }
+
+    @Test
+    void postCommentsArePagedPastTiesWithoutGapsOrRepeats() throws Exception {
+        List<Long> streamed = ids(stream("/api/stream/posts/" + commentedPostId + "/comments"));
+
+        assertEquals(commentIds.stream().sorted(Comparator.reverseOrder()).toList(), streamed);
+    }
+
+    @Test
+    void streamsRunUnderTheConfiguredAsyncTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/stream/tags"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(Duration.ofHours(1).toMillis(), started.getRequest().getAsyncContext().getTimeout());
+    }
+
+    private List<JsonNode> stream(String path) throws Exception {
+        MvcResult started = mockMvc.perform(get(path))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> items = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isBlank())
+                items.add(objectMapper.readTree(line));
+        }
+        return items;
+    }
+
+    private static List<Long> ids(List<JsonNode> items) {
+        return items.stream().map(item -> item.get("id").asLong()).toList();
+    }
+
+    // equal published_at, so the tied posts must come out by id descending
+    private static void assertIdsDescendWithin(List<Long> streamed, List<Long> tied) {
+        List<Long> order = streamed.stream().filter(tied::contains).toList();
+        assertEquals(tied.stream().sorted(Comparator.reverseOrder()).toList(), order);
+    }
+}
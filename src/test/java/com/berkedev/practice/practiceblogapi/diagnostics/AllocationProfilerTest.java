@@ -0,0 +1,92 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.AllocationSummaryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the profiler's own RecordingStream with real allocation samples and synthetic
+ * request events committed from known threads.
+ */
+class AllocationProfilerTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private final AllocationProfiler profiler = new AllocationProfiler(new JfrProperties(
+            true, false, JfrSettings.DEFAULT, Duration.ofMinutes(1), DataSize.ofMegabytes(10), "10000/s", false));
+
+    // keeps the allocations from being optimized away
+    private static volatile byte[] sink;
+
+    @AfterEach
+    void stopProfiler() {
+        profiler.stop();
+    }
+
+    @Test
+    void allocationsGoToTheRequestCommittedOnTheSameThread() throws Exception {
+        profiler.start();
+
+        runRequest("GET /heavy", 256);
+        runRequest("GET /light", 0);
+
+        Map<String, AllocationSummaryResponse> summaries = awaitSummaries("GET /heavy", "GET /light");
+        AllocationSummaryResponse heavy = summaries.get("GET /heavy");
+        AllocationSummaryResponse light = summaries.get("GET /light");
+
+        assertEquals(1, heavy.getRequests());
+        assertEquals(1, light.getRequests());
+        assertTrue(heavy.getAllocatedBytes() > 64 * MB, () -> "heavy allocated " + heavy.getAllocatedBytes());
+        assertTrue(light.getAllocatedBytes() < heavy.getAllocatedBytes() / 4,
+                () -> "light got " + light.getAllocatedBytes() + " of heavy's " + heavy.getAllocatedBytes());
+    }
+
+    @Test
+    void resetStartsANewWindow() throws Exception {
+        profiler.start();
+        runRequest("GET /before-reset", 1);
+        awaitSummaries("GET /before-reset");
+
+        profiler.reset();
+
+        assertTrue(profiler.summaries().isEmpty());
+    }
+
+    // one request per fresh thread, like the virtual thread per request in the application
+    private static void runRequest(String endpoint, int megabytes) throws InterruptedException {
+        Thread thread = Thread.ofPlatform().start(() -> {
+            HttpRequestEvent event = new HttpRequestEvent();
+            event.begin();
+            for (int i = 0; i < megabytes; i++)
+                sink = new byte[(int) MB];
+            event.endpoint = endpoint;
+            event.status = 200;
+            event.commit();
+        });
+        thread.join();
+    }
+
+    private Map<String, AllocationSummaryResponse> awaitSummaries(String... endpoints) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (true) {
+            Map<String, AllocationSummaryResponse> summaries = profiler.summaries().stream()
+                    .collect(Collectors.toMap(AllocationSummaryResponse::getEndpoint, Function.identity()));
+            boolean complete = true;
+            for (String endpoint : endpoints)
+                complete &= summaries.containsKey(endpoint);
+            if (complete)
+                return summaries;
+            if (System.nanoTime() > deadline)
+                fail("no summary for every endpoint yet: " + summaries.keySet());
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpRequestEventInterceptorTest {
+
+    private final HttpRequestEventInterceptor interceptor = new HttpRequestEventInterceptor();
+    private Recording recording;
+
+    @BeforeEach
+    void startRecording() {
+        recording = new Recording();
+        recording.enable(HttpRequestEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    void closeRecording() {
+        recording.close();
+    }
+
+    @Test
+    void syncRequestCommitsOneEventWithPatternAndStatus() throws IOException {
+        FakeRequest request = new FakeRequest("GET", "/api/posts/hello", "/api/posts/{slug}");
+        HttpServletResponse response = response(200);
+
+        interceptor.preHandle(request.proxy, response, null);
+        interceptor.afterCompletion(request.proxy, response, null, null);
+
+        List<RecordedEvent> events = committedEvents();
+        assertEquals(1, events.size());
+        assertEquals("GET /api/posts/{slug}", events.get(0).getString("endpoint"));
+        assertEquals(200, events.get(0).getInt("status"));
+    }
+
+    @Test
+    void asyncRequestCommitsWhenTheHandlerReturnsAndSkipsTheAsyncDispatch() throws IOException {
+        FakeRequest request = new FakeRequest("GET", "/api/stream/posts", "/api/stream/posts");
+        HttpServletResponse response = response(200);
+
+        interceptor.preHandle(request.proxy, response, null);
+        interceptor.afterConcurrentHandlingStarted(request.proxy, response, null);
+
+        // the body is written elsewhere, then the container dispatches the same request again
+        request.dispatcherType = DispatcherType.ASYNC;
+        interceptor.preHandle(request.proxy, response, null);
+        interceptor.afterCompletion(request.proxy, response, null, null);
+
+        List<RecordedEvent> events = committedEvents();
+        assertEquals(1, events.size());
+        assertEquals("GET /api/stream/posts", events.get(0).getString("endpoint"));
+    }
+
+    private List<RecordedEvent> committedEvents() throws IOException {
+        recording.stop();
+        Path file = Files.createTempFile("interceptor-", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("blog.HttpRequest"))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static HttpServletResponse response(int status) {
+        return (HttpServletResponse) Proxy.newProxyInstance(HttpRequestEventInterceptorTest.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class},
+                (proxy, method, args) -> method.getName().equals("getStatus") ? status : null);
+    }
+
+    // only what the interceptor reads: attributes, method, URI and dispatcher type
+    private static final class FakeRequest {
+
+        final Map<String, Object> attributes = new HashMap<>();
+        final HttpServletRequest proxy;
+        DispatcherType dispatcherType = DispatcherType.REQUEST;
+
+        FakeRequest(String method, String uri, String pattern) {
+            attributes.put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            proxy = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{HttpServletRequest.class},
+                    (self, m, args) -> switch (m.getName()) {
+                        case "getAttribute" -> attributes.get((String) args[0]);
+                        case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                        case "removeAttribute" -> attributes.remove((String) args[0]);
+                        case "getDispatcherType" -> dispatcherType;
+                        case "getMethod" -> method;
+                        case "getRequestURI" -> uri;
+                        default -> null;
+                    });
+        }
+    }
+}
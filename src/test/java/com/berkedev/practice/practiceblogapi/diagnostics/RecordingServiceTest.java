@@ -0,0 +1,40 @@
+package com.berkedev.practice.practiceblogapi.diagnostics;
+
+import com.berkedev.practice.practiceblogapi.exception.InvalidRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingServiceTest {
+
+    private final RecordingService service = new RecordingService(new JfrProperties(
+            true, false, JfrSettings.DEFAULT, Duration.ofMinutes(5), DataSize.ofMegabytes(10), "150/s", true));
+
+    @AfterEach
+    void closeRecording() {
+        service.destroy();
+    }
+
+    @Test
+    void maxAgeMustBePositiveAndCapped() {
+        assertThrows(InvalidRequestException.class, () -> service.start(JfrSettings.DEFAULT, false, Duration.ZERO));
+        assertThrows(InvalidRequestException.class, () -> service.start(JfrSettings.DEFAULT, false, Duration.ofMinutes(-1)));
+        assertThrows(InvalidRequestException.class,
+                () -> service.start(JfrSettings.DEFAULT, false, RecordingService.MAX_AGE_LIMIT.plusSeconds(1)));
+    }
+
+    @Test
+    void rejectedStartKeepsTheRunningRecording() {
+        service.start(JfrSettings.DEFAULT, false, Duration.ofMinutes(5));
+
+        assertThrows(InvalidRequestException.class, () -> service.start(JfrSettings.PROFILE, true, Duration.ZERO));
+
+        assertEquals("RUNNING", service.status().getState());
+        assertEquals("default", service.status().getSettings());
+        assertEquals(Duration.ofMinutes(5), service.status().getMaxAge());
+    }
+}
@@ -0,0 +1,123 @@
+package com.berkedev.practice.practiceblogapi.feed;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedFeedTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final FeedRenderer renderer = new FeedRenderer(new FeedProperties(3, "Blog", "http://localhost", "UTC"));
+
+    @Test
+    void keepsOnlyTheNewestEntriesUpToCapacity() {
+        BoundedFeed feed = feed(entry(4, 4), entry(3, 3), entry(2, 2), entry(1, 1));
+
+        assertEquals("[4][3][2]", entriesOf(feed));
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void newerEntryPushesTheOldestOutOfAFullFeed() {
+        BoundedFeed feed = feed(entry(3, 3), entry(2, 2), entry(1, 1));
+
+        feed.upsert(entry(4, 4));
+
+        assertEquals("[4][3][2]", entriesOf(feed));
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void entryOlderThanAFullFeedIsIgnored() {
+        BoundedFeed feed = feed(entry(4, 4), entry(3, 3), entry(2, 2), entry(1, 1));
+
+        feed.upsert(entry(9, 0));
+
+        assertEquals("[4][3][2]", entriesOf(feed));
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void entryOlderThanAnIncompleteFeedIsAppended() {
+        BoundedFeed feed = feed(entry(3, 3), entry(2, 2));
+
+        feed.upsert(entry(9, 0));
+
+        assertEquals("[3][2][9]", entriesOf(feed));
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void editedEntryMovesToItsNewPosition() {
+        BoundedFeed feed = feed(entry(3, 3), entry(2, 2), entry(1, 1));
+
+        feed.upsert(entry(1, 5));
+
+        assertEquals("[1][3][2]", entriesOf(feed));
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void entryLeavingAFullFeedMarksItStale() {
+        BoundedFeed feed = feed(entry(4, 4), entry(3, 3), entry(2, 2), entry(1, 1));
+
+        feed.upsert(entry(3, 0));
+
+        assertEquals("[4][2]", entriesOf(feed));
+        assertTrue(feed.isStale());
+    }
+
+    @Test
+    void removingFromACompleteFeedKeepsItFresh() {
+        BoundedFeed feed = feed(entry(2, 2), entry(1, 1));
+
+        feed.remove(2);
+
+        assertEquals("[1]", entriesOf(feed));
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void removingFromAFullFeedMarksItStale() {
+        BoundedFeed feed = feed(entry(3, 3), entry(2, 2), entry(1, 1));
+
+        feed.remove(3);
+
+        assertEquals("[2][1]", entriesOf(feed));
+        assertTrue(feed.isStale());
+    }
+
+    @Test
+    void removingAnUnknownPostChangesNothing() {
+        BoundedFeed feed = feed(entry(3, 3), entry(2, 2), entry(1, 1));
+        String etag = feed.get(FeedFormat.ATOM).etag();
+
+        feed.remove(42);
+
+        assertEquals(etag, feed.get(FeedFormat.ATOM).etag());
+        assertFalse(feed.isStale());
+    }
+
+    private BoundedFeed feed(FeedEntry... newestFirst) {
+        return new BoundedFeed(renderer, "Blog", "/api/feeds", 3, List.of(newestFirst));
+    }
+
+    private static FeedEntry entry(long postId, int hoursAfterBase) {
+        String fragment = "[" + postId + "]";
+        return new FeedEntry(postId, BASE.plusHours(hoursAfterBase), null, Set.of(), Map.of(FeedFormat.ATOM, fragment, FeedFormat.RSS, fragment));
+    }
+
+    // the rendered RSS document with the channel header stripped, leaving the entry fragments in order
+    private static String entriesOf(BoundedFeed feed) {
+        String document = new String(feed.get(FeedFormat.RSS).body(), StandardCharsets.UTF_8);
+        int start = document.indexOf('[');
+        return start < 0 ? "" : document.substring(start, document.indexOf("</channel>"));
+    }
+}
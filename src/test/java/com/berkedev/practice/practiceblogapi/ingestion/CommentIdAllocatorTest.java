@@ -0,0 +1,81 @@
+package com.berkedev.practice.practiceblogapi.ingestion;
+
+import com.berkedev.practice.practiceblogapi.data.entity.Comment;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentIdAllocatorTest {
+
+    private static final int BLOCK = Comment.ID_ALLOCATION_SIZE;
+
+    private final FakeSequence sequence = new FakeSequence();
+    private final CommentIdAllocator allocator = new CommentIdAllocator(sequence);
+
+    @Test
+    void firstBlockStartsAtOne() {
+        assertEquals(1, allocator.nextId());
+        assertEquals(2, allocator.nextId());
+        assertEquals(1, sequence.calls.get());
+    }
+
+    @Test
+    void nextvalIsCalledOncePerBlock() {
+        for (int i = 1; i <= BLOCK; i++)
+            assertEquals(i, allocator.nextId());
+        assertEquals(1, sequence.calls.get());
+
+        assertEquals(BLOCK + 1, allocator.nextId());
+        assertEquals(2, sequence.calls.get());
+    }
+
+    @Test
+    void blockEndsAtTheValueReturnedByNextval() {
+        // another instance (or JPA) took the blocks ending at 50 and 100
+        sequence.value.set(2L * BLOCK);
+
+        assertEquals(2L * BLOCK + 1, allocator.nextId());
+        for (int i = 1; i < BLOCK; i++)
+            allocator.nextId();
+        assertEquals(1, sequence.calls.get());
+    }
+
+    @Test
+    void concurrentCallersNeverGetTheSameId() throws InterruptedException {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++)
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 1_000; i++)
+                    ids.add(allocator.nextId());
+            }));
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(8_000, ids.size());
+        assertEquals(8_000 / BLOCK, sequence.calls.get());
+    }
+
+    // a sequence with increment by ID_ALLOCATION_SIZE, like the one the schema creates
+    private static class FakeSequence extends JdbcTemplate {
+
+        final AtomicLong value = new AtomicLong(0);
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType) {
+            assertTrue(sql.contains(Comment.ID_SEQUENCE));
+            calls.incrementAndGet();
+            return (T) Long.valueOf(value.addAndGet(BLOCK));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.berkedev.practice.practiceblogapi.ingestion;
+
+import com.berkedev.practice.practiceblogapi.data.dto.request.CommentCreateRequest;
+import com.berkedev.practice.practiceblogapi.data.entity.Category;
+import com.berkedev.practice.practiceblogapi.data.entity.Post;
+import com.berkedev.practice.practiceblogapi.data.entity.User;
+import com.berkedev.practice.practiceblogapi.data.repository.CategoryRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.PostRepository;
+import com.berkedev.practice.practiceblogapi.data.repository.UserRepository;
+import com.berkedev.practice.practiceblogapi.event.CommentsIngestedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the group-commit path against PostgreSQL: a burst is written in batches of at most
+ * {@code max-batch-size} with one {@link CommentsIngestedEvent} each, rows whose post or
+ * author is gone are skipped without failing their batch, and {@code stop()} drains what
+ * was already accepted. The long flush interval makes the burst collect into full batches.
+ */
+@SpringBootTest(properties = {
+        "blog.comments.ingestion.max-batch-size=20",
+        "blog.comments.ingestion.flush-interval=2s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers
+class CommentIngestionServiceTest {
+
+    private static final int BURST = 50;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CommentIngestionService ingestionService;
+    @Autowired
+    private CommentBatchWriter batchWriter;
+    @Autowired
+    private CommentIdAllocator idAllocator;
+    @Autowired
+    private IngestedEvents events;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostRepository postRepository;
+
+    private long authorId;
+    private long postId;
+
+    @BeforeEach
+    void createPost() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        User author = new User();
+        author.setUsername("commenter-" + suffix);
+        author.setEmail("commenter-" + suffix + "@example.com");
+        author.setPassword("secret");
+        authorId = userRepository.save(author).getId();
+
+        Category category = new Category();
+        category.setName("ingested-" + suffix);
+
+        postId = postRepository.save(Post.builder()
+                .title("Busy post")
+                .slug("busy-post-" + suffix)
+                .content("x".repeat(60))
+                .published(true)
+                .author(author)
+                .category(categoryRepository.save(category))
+                .build()).getId();
+
+        events.clear();
+    }
+
+    @Test
+    void burstIsWrittenInFullBatchesWithOneEventEach() throws Exception {
+        List<CompletableFuture<Void>> written = new ArrayList<>();
+        for (int i = 0; i < BURST; i++)
+            written.add(ingestionService.accept(authorId, request(postId, "comment " + i)).written());
+
+        CompletableFuture.allOf(written.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertEquals(BURST, commentCount(postId));
+        List<CommentsIngestedEvent> received = events.forPost(postId);
+        assertEquals(BURST, received.stream().mapToInt(event -> event.commentsPerPost().get(postId)).sum());
+        received.forEach(event -> assertTrue(event.commentsPerPost().get(postId) <= 20));
+        // accepted well within one flush interval, so only the batch size splits them
+        assertEquals(3, received.size());
+    }
+
+    @Test
+    void unknownPostOrAuthorIsRejectedBeforeItIsAccepted() throws Exception {
+        mockMvc.perform(post("/api/comments").param("authorId", String.valueOf(authorId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Long.MAX_VALUE, "lost comment")))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/comments").param("authorId", String.valueOf(Long.MAX_VALUE))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(postId, "lost comment")))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/comments").param("authorId", String.valueOf(authorId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(postId, "kept comment")))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.postId").value(postId))
+                .andExpect(jsonPath("$.authorId").value(authorId));
+    }
+
+    @Test
+    void orphanRowIsSkippedWithoutFailingItsBatch() {
+        PendingComment kept = pending(postId, authorId);
+        PendingComment orphan = pending(Long.MAX_VALUE, authorId);
+
+        List<PendingComment> written = batchWriter.write(List.of(kept, orphan));
+
+        assertEquals(List.of(kept), written);
+        assertEquals(1, commentCount(postId));
+        assertTrue(orphan.written().isCompletedExceptionally());
+        assertFalse(kept.written().isDone(), "completed by the service after its event");
+    }
+
+    @Test
+    void rejectedStatementFallsBackToSingleRows() {
+        PendingComment first = pending(postId, authorId);
+        // same id: the primary key fails the whole multi-row insert
+        PendingComment duplicate = new PendingComment(first.id(), postId, authorId, "again",
+                first.createdAt(), new CompletableFuture<>());
+        PendingComment other = pending(postId, authorId);
+
+        List<PendingComment> written = batchWriter.write(List.of(first, duplicate, other));
+
+        assertEquals(List.of(first, other), written);
+        assertEquals(2, commentCount(postId));
+        assertTrue(duplicate.written().isCompletedExceptionally());
+    }
+
+    @Test
+    @DirtiesContext
+    void stopDrainsAcceptedComments() throws ExecutionException, InterruptedException {
+        List<CompletableFuture<Void>> written = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            written.add(ingestionService.accept(authorId, request(postId, "draining " + i)).written());
+
+        // joins the writer, which keeps going until the queue is empty
+        ingestionService.stop();
+
+        for (CompletableFuture<Void> future : written)
+            assertTrue(future.isDone());
+        CompletableFuture.allOf(written.toArray(CompletableFuture[]::new)).get();
+        assertEquals(5, commentCount(postId));
+        assertFalse(ingestionService.isRunning());
+    }
+
+    private PendingComment pending(long post, long author) {
+        return new PendingComment(idAllocator.nextId(), post, author, "direct",
+                LocalDateTime.now(), new CompletableFuture<>());
+    }
+
+    private long commentCount(long post) {
+        return jdbcTemplate.queryForObject("select count(*) from comments where post_id = ?", Long.class, post);
+    }
+
+    private static CommentCreateRequest request(long post, String content) {
+        CommentCreateRequest request = new CommentCreateRequest();
+        request.setPostId(post);
+        request.setContent(content);
+        return request;
+    }
+
+    private static String json(long post, String content) {
+        return "{\"postId\":" + post + ",\"content\":\"" + content + "\"}";
+    }
+
+    @TestConfiguration
+    static class EventsConfig {
+
+        @Bean
+        IngestedEvents ingestedEvents() {
+            return new IngestedEvents();
+        }
+    }
+
+    // published on the writer thread, which the thread-bound @RecordApplicationEvents would miss
+    static class IngestedEvents {
+
+        private final List<CommentsIngestedEvent> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void on(CommentsIngestedEvent event) {
+            received.add(event);
+        }
+
+        List<CommentsIngestedEvent> forPost(long postId) {
+            return received.stream().filter(event -> event.commentsPerPost().containsKey(postId)).toList();
+        }
+
+        void clear() {
+            received.clear();
+        }
+    }
+}
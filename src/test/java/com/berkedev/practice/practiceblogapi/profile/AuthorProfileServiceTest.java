@@ -0,0 +1,72 @@
+package com.berkedev.practice.practiceblogapi.profile;
+
+import com.berkedev.practice.practiceblogapi.data.dto.response.AuthorProfileResponse;
+import com.berkedev.practice.practiceblogapi.data.repository.AuthorProfileRow;
+import com.berkedev.practice.practiceblogapi.data.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorProfileServiceTest {
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AuthorProfileService service = new AuthorProfileService(
+            fakeRepository(), new AuthorProfileProperties(10, 50, 3));
+
+    @Test
+    void leadingPagesAreServedFromTheCache() {
+        service.getProfile("alice", 0, 10);
+        service.getProfile("alice", 0, 10);
+
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void callersCannotChangeTheCachedPage() {
+        AuthorProfileResponse first = service.getProfile("alice", 0, 10);
+        first.setFullName("changed");
+        first.getPosts().clear();
+
+        AuthorProfileResponse second = service.getProfile("alice", 0, 10);
+
+        assertNotSame(first, second);
+        assertEquals("Alice", second.getFullName());
+        assertEquals(1, second.getPosts().size());
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void invalidationDropsTheAuthorsPages() {
+        service.getProfile("alice", 0, 10);
+        service.invalidate(1L);
+        service.getProfile("alice", 0, 10);
+
+        assertEquals(2, queries.get());
+    }
+
+    private UserRepository fakeRepository() {
+        return (UserRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findAuthorProfileRows"))
+                        throw new UnsupportedOperationException(method.getName());
+                    queries.incrementAndGet();
+                    return List.of(row());
+                });
+    }
+
+    private static AuthorProfileRow row() {
+        Map<String, Object> values = Map.of(
+                "getAuthorId", 1L, "getUsername", "alice", "getFullName", "Alice",
+                "getCreatedAt", LocalDateTime.of(2024, 1, 1, 0, 0),
+                "getPublishedPostCount", 1L, "getDraftPostCount", 0L, "getCommentCount", 0L,
+                "getPostId", 7L, "getPostTitle", "Hello", "getPostSlug", "hello");
+        return (AuthorProfileRow) Proxy.newProxyInstance(AuthorProfileRow.class.getClassLoader(), new Class<?>[]{AuthorProfileRow.class},
+                (proxy, method, args) -> values.get(method.getName()));
+    }
+}
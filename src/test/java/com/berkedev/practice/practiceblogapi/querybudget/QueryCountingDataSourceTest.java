@@ -0,0 +1,90 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountingDataSourceTest {
+
+    private final QueryCountingDataSource dataSource = new QueryCountingDataSource(new FakeDataSource());
+
+    @Test
+    void countsExecutedStatementsAndFetchedRows() throws SQLException {
+        try (QueryScope scope = QueryScope.open("direct", QueryScope.Limits.NONE);
+             Connection connection = dataSource.getConnection()) {
+            PreparedStatement statement = connection.prepareStatement("select * from posts");
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                // drain
+            }
+
+            assertEquals(1, scope.statements());
+            assertEquals(2, scope.rows());
+            assertEquals("select * from posts", scope.sql().get(0));
+        }
+    }
+
+    @Test
+    void statementsReachedThroughBackReferencesAreCounted() throws SQLException {
+        try (QueryScope scope = QueryScope.open("back references", QueryScope.Limits.NONE);
+             Connection connection = dataSource.getConnection()) {
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("select 1");
+
+            resultSet.getStatement().getConnection().createStatement().execute("select 2");
+            statement.getConnection().prepareStatement("select 3").executeQuery().next();
+
+            assertSame(connection, statement.getConnection());
+            assertSame(statement, resultSet.getStatement());
+            assertEquals(3, scope.statements());
+            assertEquals(1, scope.rows());
+        }
+    }
+
+    // connections hand out statements whose result sets hold two rows
+    private static final class FakeDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() {
+            Connection[] self = new Connection[1];
+            self[0] = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "createStatement" -> statement(Statement.class, self[0]);
+                        case "prepareStatement" -> statement(PreparedStatement.class, self[0]);
+                        default -> null;
+                    });
+            return self[0];
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+
+        private static Statement statement(Class<? extends Statement> type, Connection connection) {
+            Statement[] self = new Statement[1];
+            self[0] = (Statement) Proxy.newProxyInstance(FakeDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "executeQuery" -> resultSet(self[0]);
+                        case "execute" -> false;
+                        case "getConnection" -> connection;
+                        default -> null;
+                    });
+            return self[0];
+        }
+
+        private static ResultSet resultSet(Statement statement) {
+            int[] remaining = {2};
+            return (ResultSet) Proxy.newProxyInstance(FakeDataSource.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "next" -> remaining[0]-- > 0;
+                        case "getStatement" -> statement;
+                        default -> null;
+                    });
+        }
+    }
+}
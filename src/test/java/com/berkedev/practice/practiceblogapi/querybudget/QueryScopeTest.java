@@ -0,0 +1,90 @@
+package com.berkedev.practice.practiceblogapi.querybudget;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryScopeTest {
+
+    @Test
+    void countsStatementsRowsAndSql() {
+        try (QueryScope scope = QueryScope.open("counting", QueryScope.Limits.NONE)) {
+            QueryScope.recordStatement("select 1", 2_000_000);
+            QueryScope.recordRow();
+            QueryScope.recordRow();
+            QueryScope.recordStatement("select 2", 3_000_000);
+
+            assertEquals(2, scope.statements());
+            assertEquals(2, scope.rows());
+            assertEquals(5, scope.millis());
+            assertEquals(List.of("select 1", "select 2"), scope.sql());
+            assertFalse(scope.isViolated());
+        }
+    }
+
+    @Test
+    void nothingIsCountedOutsideAScope() {
+        QueryScope.recordStatement("select 1", 0);
+
+        try (QueryScope scope = QueryScope.open("after", QueryScope.Limits.NONE)) {
+            assertEquals(0, scope.statements());
+        }
+    }
+
+    @Test
+    void outerScopesAlsoCountInnerStatements() {
+        try (QueryScope outer = QueryScope.open("outer", QueryScope.Limits.NONE)) {
+            QueryScope.recordStatement("select 1", 0);
+            try (QueryScope inner = QueryScope.open("inner", QueryScope.Limits.NONE)) {
+                QueryScope.recordStatement("select 2", 0);
+                assertEquals(1, inner.statements());
+            }
+            QueryScope.recordStatement("select 3", 0);
+
+            assertEquals(3, outer.statements());
+        }
+    }
+
+    @Test
+    void recordsTheFirstViolationWithoutFailing() {
+        try (QueryScope scope = QueryScope.open("lenient", QueryScope.Limits.statements(1))) {
+            QueryScope.recordStatement("select 1", 0);
+            assertFalse(scope.isViolated());
+
+            QueryScope.recordStatement("select 2", 0);
+            Throwable first = scope.firstViolation();
+            QueryScope.recordStatement("select 3", 0);
+
+            assertTrue(scope.isViolated());
+            assertSame(first, scope.firstViolation());
+            assertEquals(3, scope.statements());
+            AssertionError error = assertThrows(AssertionError.class, scope::assertWithinBudget);
+            assertSame(first, error.getCause());
+        }
+    }
+
+    @Test
+    void failFastThrowsAtTheStatementOverBudget() {
+        try (QueryScope scope = QueryScope.open("strict", QueryScope.Limits.statements(2), true)) {
+            QueryScope.recordStatement("select 1", 0);
+            QueryScope.recordStatement("select 2", 0);
+
+            assertThrows(QueryBudgetExceededException.class, () -> QueryScope.recordStatement("select 3", 0));
+            assertEquals(3, scope.statements());
+        }
+    }
+
+    @Test
+    void rowAndTimeLimitsAreChecked() {
+        try (QueryScope rows = QueryScope.open("rows", new QueryScope.Limits(0, 1, 0), true)) {
+            QueryScope.recordRow();
+            assertThrows(QueryBudgetExceededException.class, QueryScope::recordRow);
+        }
+        try (QueryScope time = QueryScope.open("time", new QueryScope.Limits(0, 0, 5))) {
+            QueryScope.recordStatement("select pg_sleep(1)", 6_000_000);
+            assertTrue(time.isViolated());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void neverReportsAnAddedValueAsAbsent() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user-" + i), "user-" + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i))
+                falsePositives++;
+        }
+        assertTrue(falsePositives < 2_000, falsePositives + " false positives out of 100000");
+    }
+
+    @Test
+    void isSaturatedOnceMoreValuesThanItsCapacityWereAdded() {
+        BloomFilter filter = new BloomFilter(2, 0.01);
+        filter.put("a");
+        filter.put("b");
+        assertFalse(filter.isSaturated());
+
+        filter.put("c");
+        assertTrue(filter.isSaturated());
+        assertEquals(3, filter.insertions());
+    }
+}
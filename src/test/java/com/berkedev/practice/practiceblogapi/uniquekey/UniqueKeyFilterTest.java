@@ -0,0 +1,71 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueKeyFilterTest {
+
+    private final UniqueKeyFilter filter = new UniqueKeyFilter();
+
+    @Test
+    void mightContainEverythingUntilTheFirstBuild() {
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("anything"));
+    }
+
+    @Test
+    void rebuildSwapsInTheScannedValues() {
+        filter.rebuild(() -> filled("alice", "bob"));
+
+        assertTrue(filter.isReady());
+        assertTrue(filter.mightContain("alice"));
+        assertFalse(filter.mightContain("carol"));
+    }
+
+    @Test
+    void valuesAddedWhileTheTableIsCountedAndScannedAreKept() {
+        filter.rebuild(() -> filled("alice"));
+
+        filter.rebuild(() -> {
+            // committed after recording started but before the scan snapshot was taken
+            filter.put("carol");
+            return filled("alice");
+        });
+
+        assertTrue(filter.mightContain("carol"));
+    }
+
+    @Test
+    void putIfAbsentDoesNotCountKnownValuesTwice() {
+        filter.rebuild(() -> filled("alice"));
+
+        filter.putIfAbsent("alice");
+        filter.putIfAbsent("bob");
+
+        assertTrue(filter.mightContain("bob"));
+        assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    void failedRebuildKeepsThePreviousFilterAndStopsRecording() {
+        filter.rebuild(() -> filled("alice"));
+
+        assertThrows(IllegalStateException.class, () -> filter.rebuild(() -> {
+            throw new IllegalStateException("scan failed");
+        }));
+        filter.put("bob");
+        filter.rebuild(() -> filled("alice"));
+
+        assertTrue(filter.mightContain("alice"));
+        assertFalse(filter.mightContain("bob"));
+    }
+
+    private static BloomFilter filled(String... values) {
+        BloomFilter bloomFilter = new BloomFilter(1024, 0.001);
+        for (String value : values) {
+            bloomFilter.put(value);
+        }
+        return bloomFilter;
+    }
+}
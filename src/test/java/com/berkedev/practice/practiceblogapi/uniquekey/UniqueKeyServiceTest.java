@@ -0,0 +1,41 @@
+package com.berkedev.practice.practiceblogapi.uniquekey;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueKeyServiceTest {
+
+    @Test
+    void uniqueConstraintIsAConflict() {
+        assertTrue(UniqueKeyService.isUniqueViolation(violation("23505", ConstraintViolationException.ConstraintKind.UNIQUE)));
+        assertTrue(UniqueKeyService.isUniqueViolation(new DuplicateKeyException("duplicate")));
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNot() {
+        // foreign key, not null, value too long
+        assertFalse(UniqueKeyService.isUniqueViolation(violation("23503", ConstraintViolationException.ConstraintKind.OTHER)));
+        assertFalse(UniqueKeyService.isUniqueViolation(violation("23502", ConstraintViolationException.ConstraintKind.OTHER)));
+        assertFalse(UniqueKeyService.isUniqueViolation(new DataIntegrityViolationException("too long",
+                new SQLException("value too long for type character varying(255)", "22001"))));
+        assertFalse(UniqueKeyService.isUniqueViolation(new DataIntegrityViolationException("no cause")));
+    }
+
+    @Test
+    void sqlStateIsEnoughWithoutHibernate() {
+        assertTrue(UniqueKeyService.isUniqueViolation(new DataIntegrityViolationException("duplicate",
+                new SQLException("duplicate key value violates unique constraint", "23505"))));
+    }
+
+    private static DataIntegrityViolationException violation(String sqlState, ConstraintViolationException.ConstraintKind kind) {
+        SQLException sqlException = new SQLException("violation", sqlState);
+        return new DataIntegrityViolationException("violation",
+                new ConstraintViolationException("violation", sqlException, kind, "some_constraint"));
+    }
+}